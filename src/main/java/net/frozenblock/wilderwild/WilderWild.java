@@ -20,8 +20,11 @@ package net.frozenblock.wilderwild;
 
 import java.util.ArrayList;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.loader.api.ModContainer;
 import net.frozenblock.lib.FrozenBools;
 import net.frozenblock.lib.config.api.instance.ConfigModification;
@@ -30,14 +33,28 @@ import net.frozenblock.lib.entity.api.category.entrypoint.FrozenMobCategoryEntry
 import net.frozenblock.lib.entity.impl.category.FrozenMobCategory;
 import net.frozenblock.lib.entrypoint.api.FrozenModInitializer;
 import net.frozenblock.lib.feature_flag.api.FeatureFlagApi;
+import net.frozenblock.wilderwild.block.impl.AlgaeDensityField;
+import net.frozenblock.wilderwild.block.impl.FallingLeafLitterSimulator;
+import net.frozenblock.wilderwild.block.impl.GeyserEruptionTracker;
+import net.frozenblock.wilderwild.block.impl.ScorchedBrushingTable;
+import net.frozenblock.wilderwild.block.termite.TermiteBlockBehaviors;
+import net.frozenblock.wilderwild.block.termite.TermiteEngine;
+import net.frozenblock.wilderwild.command.JellyfishCountCommand;
+import net.frozenblock.wilderwild.command.SculkSpreadJob;
 import net.frozenblock.wilderwild.command.SpreadSculkCommand;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.datafix.minecraft.WWMinecraftDataFixer;
 import net.frozenblock.wilderwild.datafix.wilderwild.WWDataFixer;
-import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.ai.penguin.PenguinEscapeTargets;
+import net.frozenblock.wilderwild.entity.impl.CrabVibrationDispatcher;
+import net.frozenblock.wilderwild.entity.impl.JellyfishPopulation;
+import net.frozenblock.wilderwild.entity.impl.TumbleweedGroupTicker;
+import net.frozenblock.wilderwild.entity.variant.VariantSpawnIndex;
 import net.frozenblock.wilderwild.mod_compat.WWModIntegrations;
 import net.frozenblock.wilderwild.networking.WWNetworking;
+import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
+import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
 import net.frozenblock.wilderwild.registry.WWActivities;
 import net.frozenblock.wilderwild.registry.WWBiomes;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
@@ -111,13 +128,40 @@ public final class WilderWild extends FrozenModInitializer implements FrozenMobC
 		WWVillagers.register();
 
 		ServerLifecycleEvents.SERVER_STOPPED.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
+			JellyfishPopulation.clearPopulations();
+			TermiteEngine.clearEngines();
+			TumbleweedGroupTicker.clearTickers();
+			ScorchedBrushingTable.clearTables();
+			CrabVibrationDispatcher.clearDispatchers();
+			AlgaeDensityField.clearFields();
+			WWStoneChestLidPacket.clearQueued();
+			WWLightningStrikePacket.clearQueued();
+			PenguinEscapeTargets.clearTargets();
+			SculkSpreadJob.cancelAll();
+			TermiteBlockBehaviors.clearLookup();
+			VariantSpawnIndex.invalidateAll();
+			GeyserEruptionTracker.clearServerTrackers();
 		});
-		ServerTickEvents.START_SERVER_TICK.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
+		ServerWorldEvents.UNLOAD.register((server, level) -> GeyserEruptionTracker.onLevelUnload(level));
+		ServerLifecycleEvents.SERVER_STARTED.register(server -> TermiteBlockBehaviors.rebuildLookup(server.registryAccess()));
+		ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+			TermiteBlockBehaviors.rebuildLookup(server.registryAccess());
+			VariantSpawnIndex.invalidateAll();
+		});
+		ServerChunkEvents.CHUNK_LOAD.register(AlgaeDensityField::onChunkLoad);
+		ServerChunkEvents.CHUNK_UNLOAD.register(AlgaeDensityField::onChunkUnload);
+		ServerEntityEvents.ENTITY_LOAD.register(JellyfishPopulation::onEntityLoad);
+		ServerEntityEvents.ENTITY_UNLOAD.register(JellyfishPopulation::onEntityUnload);
+		ServerTickEvents.END_WORLD_TICK.register(TermiteEngine::tickLevel);
+		ServerTickEvents.END_WORLD_TICK.register(FallingLeafLitterSimulator::tickLevel);
+		ServerTickEvents.END_SERVER_TICK.register(server -> WWStoneChestLidPacket.sendQueued());
+		ServerTickEvents.END_SERVER_TICK.register(server -> WWLightningStrikePacket.sendQueued());
+		ServerTickEvents.END_SERVER_TICK.register(SculkSpreadJob::tickJobs);
+
+		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
+			SpreadSculkCommand.register(dispatcher);
+			JellyfishCountCommand.register(dispatcher);
 		});
-
-		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> SpreadSculkCommand.register(dispatcher));
 
 		WWModIntegrations.init();
 
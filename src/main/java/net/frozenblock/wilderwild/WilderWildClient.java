@@ -22,12 +22,16 @@ import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
 import net.frozenblock.lib.config.frozenlib_config.FrozenLibConfig;
 import net.frozenblock.lib.debug.client.api.DebugRendererEvents;
 import net.frozenblock.lib.debug.client.impl.DebugRenderManager;
 import net.frozenblock.lib.menu.api.SplashTextAPI;
+import net.frozenblock.wilderwild.block.impl.GeyserEruptionTracker;
+import net.frozenblock.wilderwild.client.LightningStrikeEffects;
 import net.frozenblock.wilderwild.client.WWBlockRenderLayers;
 import net.frozenblock.wilderwild.client.WWFluidRendering;
 import net.frozenblock.wilderwild.client.WWItemProperties;
@@ -36,6 +40,7 @@ import net.frozenblock.wilderwild.client.WWParticleEngine;
 import net.frozenblock.wilderwild.client.WWTints;
 import net.frozenblock.wilderwild.client.WilderEasterEggs;
 import net.frozenblock.wilderwild.client.renderer.debug.OstrichDebugRenderer;
+import net.frozenblock.wilderwild.client.renderer.entity.FireflyBatchRenderer;
 import net.frozenblock.wilderwild.networking.WWClientNetworking;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackType;
@@ -60,6 +65,13 @@ public final class WilderWildClient implements ClientModInitializer {
 
 		WWClientNetworking.registerPacketReceivers();
 
+		ClientTickEvents.END_WORLD_TICK.register(LightningStrikeEffects::tick);
+		ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> GeyserEruptionTracker.clearClientTrackers());
+
+		WorldRenderEvents.START.register(context -> FireflyBatchRenderer.beginFrame());
+		WorldRenderEvents.BEFORE_DEBUG_RENDER.register(context -> FireflyBatchRenderer.endFrame());
+		WorldRenderEvents.END.register(context -> FireflyBatchRenderer.clear());
+
 		ResourceManagerHelper.get(PackType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
 			@Override
 			public ResourceLocation getFabricId() {
@@ -22,6 +22,7 @@ import com.mojang.serialization.MapCodec;
 import java.util.Iterator;
 import java.util.List;
 import net.frozenblock.lib.math.api.AdvancedMath;
+import net.frozenblock.wilderwild.block.impl.AlgaeDensityField;
 import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.tag.WWEntityTags;
 import net.minecraft.core.BlockPos;
@@ -139,7 +140,29 @@ public class AlgaeBlock extends Block implements BonemealableBlock {
 		this.bonemealPos = null;
 	}
 
+	@Override
+	public void onPlace(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState oldState, boolean movedByPiston) {
+		super.onPlace(state, level, pos, oldState, movedByPiston);
+		if (level instanceof ServerLevel serverLevel && !oldState.is(this)) {
+			AlgaeDensityField.get(serverLevel).add(pos);
+		}
+	}
+
+	@Override
+	public void onRemove(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState newState, boolean movedByPiston) {
+		if (level instanceof ServerLevel serverLevel && !newState.is(this)) {
+			AlgaeDensityField.get(serverLevel).remove(pos);
+		}
+		super.onRemove(state, level, pos, newState, movedByPiston);
+	}
+
 	public static boolean hasNearbyAlgae(@NotNull LevelAccessor level, @NotNull BlockPos blockPos, int distance, int threshold) {
+		if (level instanceof ServerLevel serverLevel) {
+			boolean hasNearbyAlgae = AlgaeDensityField.get(serverLevel).hasNearbyAlgae(blockPos, distance, threshold);
+			serverLevel.getProfiler().incrementCounter(hasNearbyAlgae ? "algaeDensityHit" : "algaeDensityMiss");
+			return hasNearbyAlgae;
+		}
+
 		Iterator<BlockPos> posesToCheck = BlockPos.betweenClosed(blockPos.offset(-distance, -distance, -distance), blockPos.offset(distance, distance, distance)).iterator();
 		int count = 0;
 		do {
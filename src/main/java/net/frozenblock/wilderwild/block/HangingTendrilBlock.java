@@ -21,7 +21,6 @@ package net.frozenblock.wilderwild.block;
 import com.mojang.serialization.MapCodec;
 import net.frozenblock.wilderwild.block.entity.HangingTendrilBlockEntity;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
-import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
 import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.minecraft.core.BlockPos;
@@ -47,8 +46,6 @@ import net.minecraft.world.level.block.SculkSensorBlock;
 import net.minecraft.world.level.block.SculkSpreader;
 import net.minecraft.world.level.block.SimpleWaterloggedBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -100,6 +97,15 @@ public class HangingTendrilBlock extends BaseEntityBlock implements SimpleWaterl
 		SculkSensorBlock.updateNeighbours(level, pos, state);
 	}
 
+	/**
+	 * Schedules a tick for a Hanging Tendril, which only ticks while it has something to do.
+	 */
+	public static void wake(@NotNull LevelAccessor level, @NotNull BlockPos pos, @NotNull Block block) {
+		if (!level.getBlockTicks().hasScheduledTick(pos, block)) {
+			level.scheduleTick(pos, block, 1);
+		}
+	}
+
 	public static boolean shouldHavePogLighting(BlockState state) {
 		return SculkSensorBlock.getPhase(state) == SculkSensorPhase.ACTIVE || state.getValue(WRINGING_OUT);
 	}
@@ -137,7 +143,11 @@ public class HangingTendrilBlock extends BaseEntityBlock implements SimpleWaterl
 			if (entity instanceof HangingTendrilBlockEntity wigglyTendril) {
 				level.setBlockAndUpdate(pos, state.setValue(TWITCHING, true));
 				wigglyTendril.ticksToStopTwitching = random.nextIntBetweenInclusive(TWITCH_MIN_TICKS, TWITCH_MAX_TICKS);
+				wake(level, pos, this);
 			}
+		} else {
+			// Also picks up tendrils that were left mid-activation before they slept between events.
+			wake(level, pos, this);
 		}
 	}
 
@@ -163,6 +173,10 @@ public class HangingTendrilBlock extends BaseEntityBlock implements SimpleWaterl
 	public void tick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource random) {
 		if (!state.canSurvive(level, pos)) {
 			level.destroyBlock(pos, true);
+		} else if (level.getBlockEntity(pos) instanceof HangingTendrilBlockEntity hangingTendrilBlockEntity) {
+			if (hangingTendrilBlockEntity.serverTick(level, pos, state)) {
+				wake(level, pos, this);
+			}
 		}
 	}
 
@@ -197,15 +211,6 @@ public class HangingTendrilBlock extends BaseEntityBlock implements SimpleWaterl
 		return new HangingTendrilBlockEntity(pos, state);
 	}
 
-	@Override
-	@Nullable
-	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level, @NotNull BlockState state, @NotNull BlockEntityType<T> type) {
-		return !level.isClientSide ? createTickerHelper(type, WWBlockEntityTypes.HANGING_TENDRIL, (worldx, pos, statex, blockEntity) ->
-			blockEntity.serverTick(worldx, pos, statex)
-		) : createTickerHelper(type, WWBlockEntityTypes.HANGING_TENDRIL, (worldx, pos, statex, blockEntity) ->
-			blockEntity.clientTick(worldx ,statex));
-	}
-
 	@Override
 	@NotNull
 	public RenderShape getRenderShape(@NotNull BlockState state) {
@@ -234,6 +239,7 @@ public class HangingTendrilBlock extends BaseEntityBlock implements SimpleWaterl
 		int frequency
 	) {
 		level.setBlock(pos, state.setValue(PHASE, SculkSensorPhase.ACTIVE).setValue(POWER, power), UPDATE_ALL);
+		wake(level, pos, this);
 		boolean tendrilsCarryEvents = WWBlockConfig.get().sculk.tendrilsCarryEvents;
 		SculkSensorBlock.updateNeighbours(level, pos, state);
 		SculkSensorBlock.tryResonateVibration(tendrilsCarryEvents ? entity : null, level, pos, frequency);
@@ -310,6 +316,7 @@ public class HangingTendrilBlock extends BaseEntityBlock implements SimpleWaterl
 							level.getRandom().nextFloat() * 0.1F + 0.9F
 						);
 						tendrilEntity.ringOutTicksLeft = RING_OUT_TICKS;
+						wake(level, pos, this);
 						return InteractionResult.SUCCESS;
 					}
 				}
@@ -25,7 +25,7 @@ import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Map;
 import net.frozenblock.lib.block.api.dripstone.DripstoneDripApi;
 import net.frozenblock.lib.item.api.ItemBlockStateTagUtils;
-import net.frozenblock.wilderwild.block.entity.ScorchedBlockEntity;
+import net.frozenblock.wilderwild.block.impl.ScorchedBrushingTable;
 import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -38,10 +38,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.biome.Biome;
-import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.RenderShape;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -52,9 +49,8 @@ import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
-public class ScorchedBlock extends BaseEntityBlock {
+public class ScorchedBlock extends Block {
 	public static final int TICK_DELAY = 2;
 	public static final float RAIN_HYDRATION_CHANCE = 0.75F;
 	public static final Map<BlockState, BlockState> SCORCH_MAP = new Object2ObjectOpenHashMap<>();
@@ -149,9 +145,11 @@ public class ScorchedBlock extends BaseEntityBlock {
 	}
 
 	@Override
-	@Nullable
-	public BlockEntity newBlockEntity(@NotNull BlockPos blockPos, @NotNull BlockState blockState) {
-		return new ScorchedBlockEntity(blockPos, blockState);
+	protected void onRemove(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState newState, boolean movedByPiston) {
+		if (level instanceof ServerLevel serverLevel && !state.is(newState.getBlock())) {
+			ScorchedBrushingTable.get(serverLevel).remove(pos);
+		}
+		super.onRemove(state, level, pos, newState, movedByPiston);
 	}
 
 	@Override
@@ -172,10 +170,7 @@ public class ScorchedBlock extends BaseEntityBlock {
 		} else if (fluid == Fluids.WATER) {
 			hydrate(state, level, pos);
 		}
-		BlockEntity blockEntity = level.getBlockEntity(pos);
-		if (blockEntity instanceof ScorchedBlockEntity scorchedBlock) {
-			scorchedBlock.checkReset();
-		}
+		ScorchedBrushingTable.get(level).checkReset(level, pos, level.getBlockState(pos));
 	}
 
 	@Override
@@ -187,11 +182,5 @@ public class ScorchedBlock extends BaseEntityBlock {
 		}
 		return superStack;
 	}
-
-	@Override
-	@NotNull
-	public RenderShape getRenderShape(@NotNull BlockState blockState) {
-		return RenderShape.MODEL;
-	}
 }
 
@@ -32,7 +32,6 @@ import net.frozenblock.wilderwild.entity.Firefly;
 import net.frozenblock.wilderwild.entity.ai.firefly.FireflyAi;
 import net.frozenblock.wilderwild.entity.variant.firefly.FireflyColor;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
-import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
 import net.frozenblock.wilderwild.registry.WWDataComponents;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
@@ -68,41 +67,12 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 	private final ArrayList<Occupant> fireflies = new ArrayList<>();
 
 	public NonNullList<ItemStack> inventory;
-	public int age;
-	public boolean clientHanging;
-	private boolean firstTick;
 
 	public DisplayLanternBlockEntity(@NotNull BlockPos pos, @NotNull BlockState blockState) {
 		super(WWBlockEntityTypes.DISPLAY_LANTERN, pos, blockState);
 		this.inventory = NonNullList.withSize(1, ItemStack.EMPTY);
 	}
 
-	public void serverTick(@NotNull Level level, @NotNull BlockPos pos) {
-		boolean hasFireflies = !this.fireflies.isEmpty();
-		if (!this.firstTick) {
-			this.firstTick = true;
-			if (hasFireflies) {
-				BlockState state = this.getBlockState();
-				level.setBlockAndUpdate(pos, state.setValue(WWBlockStateProperties.DISPLAY_LIGHT, Mth.clamp(this.fireflies.size() * 3, 0, 15)));
-			}
-		}
-		if (hasFireflies) {
-			for (Occupant firefly : this.fireflies) {
-				firefly.tick(level);
-			}
-		}
-	}
-
-	public void clientTick(Level level) {
-		this.age += 1;
-		this.clientHanging = this.getBlockState().getValue(BlockStateProperties.HANGING);
-		if (!this.fireflies.isEmpty()) {
-			for (Occupant firefly : this.fireflies) {
-				firefly.tick(level);
-			}
-		}
-	}
-
 	public void updateSync() {
 		for (ServerPlayer player : PlayerLookup.tracking(this)) {
 			player.connection.send(Objects.requireNonNull(this.getUpdatePacket()));
@@ -144,7 +114,6 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 		}
 		this.inventory = NonNullList.withSize(1, ItemStack.EMPTY);
 		ContainerHelper.loadAllItems(tag, this.inventory, provider);
-		this.age = tag.getInt("age");
 	}
 
 	@Override
@@ -152,7 +121,6 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 		super.saveAdditional(tag, provider);
 		tag.put("fireflies", Occupant.LIST_CODEC.encodeStart(NbtOps.INSTANCE, this.fireflies).getOrThrow());
 		ContainerHelper.saveAllItems(tag, this.inventory, provider);
-		tag.putInt("age", this.age);
 	}
 
 	@SuppressWarnings("ClassEscapesDefinedScope")
@@ -184,7 +152,7 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 	public void addFirefly(@NotNull LevelAccessor levelAccessor, @NotNull ResourceLocation color, @NotNull String name) {
 		RandomSource random = levelAccessor.getRandom();
 		Vec3 newVec = new Vec3(0.5D + (0.15D - random.nextDouble() * 0.3D), 0D, 0.5D + (0.15D - random.nextDouble() * 0.3D));
-		var firefly = new Occupant(newVec, color, name, random.nextInt(MAX_FIREFLY_AGE), 0D);
+		var firefly = new Occupant(newVec, color, name, random.nextInt(MAX_FIREFLY_AGE));
 		this.fireflies.add(firefly);
 		if (this.level != null) {
 			this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
@@ -211,10 +179,12 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 
 	private void doFireflySpawns(@NotNull Level level) {
 		double extraHeight = this.getBlockState().getValue(BlockStateProperties.HANGING) ? 0.155 : 0;
+		long gameTime = level.getGameTime();
 		for (Occupant firefly : this.getFireflies()) {
 			Firefly entity = WWEntityTypes.FIREFLY.create(level);
 			if (entity != null) {
-				entity.moveTo(worldPosition.getX() + firefly.pos.x, worldPosition.getY() + firefly.y + extraHeight + 0.07D, worldPosition.getZ() + firefly.pos.z, 0F, 0F);
+				double y = Occupant.getYOffset(firefly.getAnimationAge(gameTime, 0F));
+				entity.moveTo(worldPosition.getX() + firefly.pos.x, worldPosition.getY() + y + extraHeight + 0.07D, worldPosition.getZ() + firefly.pos.z, 0F, 0F);
 				entity.setFromBottle(true);
 				if (level.addFreshEntity(entity)) {
 					FireflyAi.rememberHome(entity, entity.blockPosition());
@@ -240,13 +210,17 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 		return 0;
 	}
 
+	/**
+	 * A firefly displayed inside a lantern.
+	 * <p>
+	 * Occupants never tick; their motion is derived from the level's game time, offset by their age.
+	 */
 	public static class Occupant {
 		public static final Codec<Occupant> CODEC = RecordCodecBuilder.create((instance) -> instance.group(
 			Vec3.CODEC.fieldOf("pos").forGetter(Occupant::getPos),
 			ResourceLocation.CODEC.fieldOf("color").forGetter(Occupant::getColor),
 			Codec.STRING.fieldOf("custom_name").orElse("").forGetter(Occupant::getCustomName),
-			Codec.INT.fieldOf("age").forGetter(Occupant::getAge),
-			Codec.DOUBLE.fieldOf("y").forGetter(Occupant::getY)
+			Codec.INT.fieldOf("age").forGetter(Occupant::getAge)
 		).apply(instance, Occupant::new));
 
 		public static final Codec<List<Occupant>> LIST_CODEC = CODEC.listOf();
@@ -259,8 +233,6 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 			Occupant::getCustomName,
 			ByteBufCodecs.INT,
 			Occupant::getAge,
-			ByteBufCodecs.DOUBLE,
-			Occupant::getY,
 			Occupant::new
 		);
 
@@ -268,26 +240,22 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 		public ResourceLocation color;
 		public String customName;
 		public int age;
-		public double y;
 
 		private Optional<FireflyColor> colorForRendering = Optional.empty();
 
-		public Occupant(@NotNull Vec3 pos, @NotNull ResourceLocation color, @NotNull String customName, int age, double y) {
+		public Occupant(@NotNull Vec3 pos, @NotNull ResourceLocation color, @NotNull String customName, int age) {
 			this.pos = pos;
 			this.color = color;
 			this.customName = customName;
 			this.age = age;
-			this.y = y;
 		}
 
-		public void tick(Level level) {
-			this.age += 1;
-			this.y = Math.sin(this.age * 0.03D) * 0.15D;
-			if (this.colorForRendering.isEmpty()) {
-				this.colorForRendering = level.registryAccess()
-					.registryOrThrow(WilderWildRegistries.FIREFLY_COLOR)
-					.getOptional(this.color);
-			}
+		public static double getYOffset(double animationAge) {
+			return Math.sin(animationAge * 0.03D) * 0.15D;
+		}
+
+		public double getAnimationAge(long gameTime, float partialTick) {
+			return (double) (gameTime + this.age) + partialTick;
 		}
 
 		@NotNull
@@ -300,12 +268,14 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 			return this.color;
 		}
 
-		public boolean canRender() {
-			return this.colorForRendering.isPresent();
-		}
-
-		public FireflyColor getColorForRendering() {
-			return this.colorForRendering.get();
+		@NotNull
+		public Optional<FireflyColor> getColorForRendering(@NotNull Level level) {
+			if (this.colorForRendering.isEmpty()) {
+				this.colorForRendering = level.registryAccess()
+					.registryOrThrow(WilderWildRegistries.FIREFLY_COLOR)
+					.getOptional(this.color);
+			}
+			return this.colorForRendering;
 		}
 
 		@NotNull
@@ -316,9 +286,5 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 		public int getAge() {
 			return this.age;
 		}
-
-		public double getY() {
-			return this.y;
-		}
 	}
 }
@@ -18,6 +18,7 @@
 
 package net.frozenblock.wilderwild.block.entity;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import java.util.List;
 import java.util.Optional;
 import net.fabricmc.api.EnvType;
@@ -28,6 +29,7 @@ import net.frozenblock.lib.wind.api.WindDisturbanceLogic;
 import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.lib.wind.client.impl.ClientWindManager;
 import net.frozenblock.wilderwild.block.GeyserBlock;
+import net.frozenblock.wilderwild.block.impl.GeyserEruptionTracker;
 import net.frozenblock.wilderwild.block.state.properties.GeyserStage;
 import net.frozenblock.wilderwild.block.state.properties.GeyserType;
 import net.frozenblock.wilderwild.mod_compat.FrozenLibIntegration;
@@ -50,8 +52,8 @@ import net.minecraft.sounds.SoundSource;
 import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.EntitySelector;
 import net.minecraft.world.entity.ai.targeting.TargetingConditions;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.Level;
@@ -62,12 +64,12 @@ import net.minecraft.world.level.block.SupportType;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
-import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class GeyserBlockEntity extends BlockEntity {
 	private static final WindDisturbanceLogic<GeyserBlockEntity> DUMMY_WIND_LOGIC = new WindDisturbanceLogic<>((source, level1, windOrigin, affectedArea, windTarget) -> WindDisturbance.DUMMY_RESULT);
@@ -91,6 +93,9 @@ public class GeyserBlockEntity extends BlockEntity {
 	private boolean hasRunFirstCheck = false;
 	private int tickUntilNextEvent;
 	private float eruptionProgress;
+	@Nullable
+	private EruptionColumn eruptionColumn;
+	private boolean trackedByEruptionTracker;
 
 	public GeyserBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(WWBlockEntityTypes.GEYSER, pos, state);
@@ -102,6 +107,10 @@ public class GeyserBlockEntity extends BlockEntity {
 		Direction direction = state.getValue(GeyserBlock.FACING);
 		boolean natural = state.getValue(GeyserBlock.NATURAL);
 
+		if (geyserStage != GeyserStage.ERUPTING || !GeyserBlock.isActive(geyserType)) {
+			this.stopErupting(level);
+		}
+
 		if (!this.hasRunFirstCheck) {
 			level.scheduleTick(pos, this.getBlockState().getBlock(), level.random.nextInt(TICK_DELAY_START_MIN, TICK_DELAY_START_MAX));
 			this.hasRunFirstCheck = true;
@@ -142,72 +151,37 @@ public class GeyserBlockEntity extends BlockEntity {
 		);
 	}
 
-	private void handleEruption(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
-		BlockPos maxEndPos = pos.relative(direction, (int) ERUPTION_DISTANCE);
-		Optional<BlockPos> cutoffPos = Optional.empty();
-		Optional<BlockPos> damageCutoffPos = Optional.empty();
-		BlockPos.MutableBlockPos mutablePos = pos.mutable();
-		for (int i = 0; i < 5; i++) {
-			if (level.hasChunkAt(mutablePos.move(direction))) {
-				BlockState state = level.getBlockState(mutablePos);
-				if (!canEruptionPassThrough(level, mutablePos, state, direction)) {
-					break;
-				}
-				boolean mismatchesAir = geyserType == GeyserType.AIR && !state.getFluidState().isEmpty();
-				boolean mismatchesWater = geyserType == GeyserType.WATER && !state.getFluidState().is(Fluids.WATER);
-				boolean mismatchesLava = geyserType == GeyserType.LAVA && !state.getFluidState().is(Fluids.LAVA);
-				if (mismatchesAir || mismatchesWater || mismatchesLava) {
-					if (cutoffPos.isEmpty()) cutoffPos = Optional.of(mutablePos.immutable());
-				}
-				if (geyserType == GeyserType.LAVA && state.getFluidState().is(FluidTags.WATER)) {
-					if (damageCutoffPos.isEmpty()) damageCutoffPos = Optional.of(mutablePos.immutable());
-				}
-			}
-		}
-		AABB eruption = aabb(pos, mutablePos.immutable());
-		mutablePos.move(direction.getOpposite());
-
-		AABB effectiveEruption = cutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
-		AABB damagingEruption = damageCutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
-
-		AABB maxPossibleEruptionBox = getPossibleEruptionBoundingBox(pos, maxEndPos);
-		List<Entity> entities = level.getEntities(
-			EntityTypeTest.forClass(Entity.class),
-			maxPossibleEruptionBox,
-			EntitySelector.ENTITY_STILL_ALIVE.and(EntitySelector.NO_SPECTATORS)
-		);
-		Vec3 geyserStartPos = Vec3.atCenterOf(pos);
+	private void handleEruption(@NotNull Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+		ProfilerFiller profiler = level.getProfiler();
+		profiler.push("geyserEruption");
+		profiler.incrementCounter("geyserEruption");
 
-		WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
-			Optional.of(this),
-			geyserStartPos,
-			effectiveEruption.inflate(0.5D).move(direction.step().mul(0.5F)),
-			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_EFFECTIVE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
-		);
-		WindDisturbance<GeyserBlockEntity> baseWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
-			Optional.of(this),
-			geyserStartPos,
-			eruption.inflate(0.5D).move(direction.step().mul(0.5F)),
-			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_BASE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
-		);
+		EruptionColumn column = this.eruptionColumn;
+		if (column == null || column.geyserType() != geyserType || column.direction() != direction) {
+			profiler.incrementCounter("geyserColumnScan");
+			column = this.scanEruptionColumn(level, pos, geyserType, direction);
+		}
+		AABB eruption = column.eruption();
+		AABB effectiveEruption = column.effectiveEruption();
+		AABB damagingEruption = column.damagingEruption();
+		AABB maxPossibleEruptionBox = getPossibleEruptionBoundingBox(pos, column.maxEndPos());
+		Vec3 geyserStartPos = column.geyserStartPos();
 
 		if (level instanceof ServerLevel serverLevel) {
 			WindManager windManager = WindManager.getWindManager(serverLevel);
-			windManager.addWindDisturbance(effectiveWindDisturbance);
-			windManager.addWindDisturbance(baseWindDisturbance);
+			windManager.addWindDisturbance(column.effectiveWindDisturbance());
+			windManager.addWindDisturbance(column.baseWindDisturbance());
 		} else if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
-			addWindDisturbanceToClient(effectiveWindDisturbance);
-			addWindDisturbanceToClient(baseWindDisturbance);
+			addWindDisturbanceToClient(column.effectiveWindDisturbance());
+			addWindDisturbanceToClient(column.baseWindDisturbance());
 		}
 
+		List<Entity> entities = GeyserEruptionTracker.get(level).getEntitiesNearEruption(level, this);
 		Vec3 movement = Vec3.atLowerCornerOf(direction.getNormal());
 		for (Entity entity : entities) {
+			if (!entity.isAlive()) continue;
 			AABB boundingBox = entity.getBoundingBox();
-			if (eruption.intersects(boundingBox)) {
+			if (maxPossibleEruptionBox.intersects(boundingBox) && eruption.intersects(boundingBox)) {
 				boolean applyMovement = true;
 				if (entity instanceof Player player) {
 					if (!player.getAbilities().flying) {
@@ -244,7 +218,14 @@ public class GeyserBlockEntity extends BlockEntity {
 			}
 		}
 
-		for (BlockPos blockPos : BlockPos.betweenClosed(pos, mutablePos.immutable())) {
+		if (column.hasReactiveBlocks()) {
+			this.updateReactiveBlocks(level, pos, geyserType, column.lastPassablePos(), maxPossibleEruptionBox);
+		}
+		profiler.pop();
+	}
+
+	private void updateReactiveBlocks(@NotNull Level level, @NotNull BlockPos pos, GeyserType geyserType, @NotNull BlockPos lastPassablePos, @NotNull AABB maxPossibleEruptionBox) {
+		for (BlockPos blockPos : BlockPos.betweenClosed(pos, lastPassablePos)) {
 			if (maxPossibleEruptionBox.contains(Vec3.atCenterOf(blockPos)) && level.hasChunkAt(blockPos)) {
 				BlockState state = level.getBlockState(blockPos);
 
@@ -276,6 +257,132 @@ public class GeyserBlockEntity extends BlockEntity {
 		}
 	}
 
+	/**
+	 * Scans the blocks in front of the geyser, caching the resulting eruption boxes and wind disturbances.
+	 * <p>
+	 * The cache is kept until a block in the scanned column changes, see {@link GeyserEruptionTracker#onBlockChanged}.
+	 */
+	@NotNull
+	private EruptionColumn scanEruptionColumn(@NotNull Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+		GeyserEruptionTracker tracker = GeyserEruptionTracker.get(level);
+		BlockPos maxEndPos = pos.relative(direction, (int) ERUPTION_DISTANCE);
+		BlockPos cutoffPos = null;
+		BlockPos damageCutoffPos = null;
+		boolean loaded = true;
+		boolean hasReactiveBlocks = false;
+		LongArrayList watchedPositions = new LongArrayList();
+		BlockPos.MutableBlockPos mutablePos = pos.mutable();
+		for (int i = 0; i < 5; i++) {
+			if (level.hasChunkAt(mutablePos.move(direction))) {
+				watchedPositions.add(mutablePos.asLong());
+				BlockState state = level.getBlockState(mutablePos);
+				hasReactiveBlocks = hasReactiveBlocks || isReactiveBlock(state);
+				if (!canEruptionPassThrough(level, mutablePos, state, direction)) {
+					break;
+				}
+				boolean mismatchesAir = geyserType == GeyserType.AIR && !state.getFluidState().isEmpty();
+				boolean mismatchesWater = geyserType == GeyserType.WATER && !state.getFluidState().is(Fluids.WATER);
+				boolean mismatchesLava = geyserType == GeyserType.LAVA && !state.getFluidState().is(Fluids.LAVA);
+				if (mismatchesAir || mismatchesWater || mismatchesLava) {
+					if (cutoffPos == null) cutoffPos = mutablePos.immutable();
+				}
+				if (geyserType == GeyserType.LAVA && state.getFluidState().is(FluidTags.WATER)) {
+					if (damageCutoffPos == null) damageCutoffPos = mutablePos.immutable();
+				}
+			} else {
+				loaded = false;
+			}
+		}
+		BlockPos endPos = mutablePos.immutable();
+		AABB eruption = aabb(pos, endPos);
+		BlockPos lastPassablePos = endPos.relative(direction.getOpposite());
+
+		AABB effectiveEruption = cutoffPos != null ? aabb(pos, cutoffPos.relative(direction.getOpposite())) : aabb(pos, lastPassablePos);
+		AABB damagingEruption = damageCutoffPos != null ? aabb(pos, damageCutoffPos.relative(direction.getOpposite())) : aabb(pos, lastPassablePos);
+
+		Vec3 geyserStartPos = Vec3.atCenterOf(pos);
+		Optional<GeyserBlockEntity> source = Optional.of(this);
+		WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
+			source,
+			geyserStartPos,
+			effectiveEruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_EFFECTIVE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
+		);
+		WindDisturbance<GeyserBlockEntity> baseWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
+			source,
+			geyserStartPos,
+			eruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_BASE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
+		);
+
+		EruptionColumn column = new EruptionColumn(
+			geyserType,
+			direction,
+			maxEndPos,
+			lastPassablePos,
+			geyserStartPos,
+			aabb(pos, maxEndPos),
+			eruption,
+			effectiveEruption,
+			damagingEruption,
+			effectiveWindDisturbance,
+			baseWindDisturbance,
+			hasReactiveBlocks
+		);
+
+		tracker.startErupting(this);
+		this.trackedByEruptionTracker = true;
+		if (loaded) {
+			// Only keep the column if every block in it could be checked.
+			this.eruptionColumn = column;
+			tracker.watchColumn(this, watchedPositions.toLongArray());
+		} else {
+			this.eruptionColumn = null;
+			tracker.unwatchColumn(this);
+		}
+		return column;
+	}
+
+	private static boolean isReactiveBlock(@NotNull BlockState state) {
+		return state.is(BlockTags.FIRE) || state.is(BlockTags.CAMPFIRES) || state.is(BlockTags.CANDLES) || state.is(BlockTags.CANDLE_CAKES);
+	}
+
+	public void invalidateEruptionColumn() {
+		this.eruptionColumn = null;
+		if (this.level != null) {
+			GeyserEruptionTracker tracker = GeyserEruptionTracker.getIfPresent(this.level);
+			if (tracker != null) tracker.unwatchColumn(this);
+		}
+	}
+
+	private void stopErupting(@NotNull Level level) {
+		this.eruptionColumn = null;
+		if (this.trackedByEruptionTracker) {
+			this.trackedByEruptionTracker = false;
+			GeyserEruptionTracker tracker = GeyserEruptionTracker.getIfPresent(level);
+			if (tracker != null) tracker.stopErupting(this);
+		}
+	}
+
+	/**
+	 * @return the eruption box of this geyser when fully erupted and unobstructed.
+	 */
+	@NotNull
+	public AABB getMaxEruptionBoundingBox() {
+		EruptionColumn column = this.eruptionColumn;
+		if (column != null) return column.maxEruptionBox();
+		BlockPos pos = this.getBlockPos();
+		BlockState state = this.getBlockState();
+		Direction direction = state.hasProperty(GeyserBlock.FACING) ? state.getValue(GeyserBlock.FACING) : Direction.UP;
+		return aabb(pos, pos.relative(direction, (int) ERUPTION_DISTANCE));
+	}
+
+	@Override
+	public void setRemoved() {
+		super.setRemoved();
+		if (this.level != null) this.stopErupting(this.level);
+	}
+
 	@NotNull
 	private AABB getPossibleEruptionBoundingBox(@NotNull BlockPos pos, @NotNull BlockPos maxEndPos) {
 		double xDifference = maxEndPos.getX() - pos.getX();
@@ -340,6 +447,9 @@ public class GeyserBlockEntity extends BlockEntity {
 		GeyserType geyserType = state.getValue(GeyserBlock.GEYSER_TYPE);
 		GeyserStage geyserStage = state.getValue(GeyserBlock.GEYSER_STAGE);
 		Direction direction = state.getValue(GeyserBlock.FACING);
+		if (geyserStage != GeyserStage.ERUPTING || !GeyserBlock.isActive(geyserType)) {
+			this.stopErupting(level);
+		}
 		if (GeyserBlock.isActive(geyserType)) {
 			if (geyserStage == GeyserStage.ERUPTING) {
 				this.eruptionProgress = Math.min(1F, this.eruptionProgress + ERUPTION_PROGRESS_INTERVAL);
@@ -631,4 +741,20 @@ public class GeyserBlockEntity extends BlockEntity {
 		}
 	}
 
+
+	private record EruptionColumn(
+		GeyserType geyserType,
+		Direction direction,
+		BlockPos maxEndPos,
+		BlockPos lastPassablePos,
+		Vec3 geyserStartPos,
+		AABB maxEruptionBox,
+		AABB eruption,
+		AABB effectiveEruption,
+		AABB damagingEruption,
+		WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance,
+		WindDisturbance<GeyserBlockEntity> baseWindDisturbance,
+		boolean hasReactiveBlocks
+	) {
+	}
 }
@@ -35,7 +35,6 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ExperienceOrb;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.SculkSensorBlock;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -64,6 +63,10 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 
 	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final String BASE_TEXTURE = "textures/entity/hanging_tendril/";
+	private static final ResourceLocation[] MILK_TEXTURES = createFrames("milk", MILK_FRAMES);
+	private static final ResourceLocation[] ACTIVE_TEXTURES = createFrames("active", ACTIVE_FRAMES);
+	private static final ResourceLocation[] TWITCHING_TEXTURES = createFrames("twitch", TWITCHING_FRAMES);
+	private static final ResourceLocation[] INACTIVE_TEXTURES = createFrames("inactive", INACTIVE_FRAMES);
 	private final VibrationSystem.Listener vibrationListener;
 	private final VibrationSystem.User vibrationUser = this.createVibrationUser();
 	private VibrationSystem.Data vibrationData;
@@ -72,11 +75,6 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 	private int storedXP;
 	public int ringOutTicksLeft;
 	private int activeTicks;
-	//CLIENT ONLY
-	public ResourceLocation texture = WWConstants.id("textures/entity/hanging_tendril/inactive1.png");
-	public boolean twitching;
-	public boolean active;
-	public boolean milking;
 
 	public HangingTendrilBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(WWBlockEntityTypes.HANGING_TENDRIL, pos, state);
@@ -84,11 +82,17 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 		this.vibrationListener = new VibrationSystem.Listener(this);
 	}
 
-	public void serverTick(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state) {
-		if (this.ticksToStopTwitching <= 0) {
-			level.setBlockAndUpdate(pos, state.setValue(HangingTendrilBlock.TWITCHING, false));
+	/**
+	 * Runs one scheduled tick of the tendril.
+	 *
+	 * @return whether the tendril still needs to tick again, as idle tendrils sleep until something wakes them.
+	 */
+	public boolean serverTick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state) {
+		if (this.ticksToStopTwitching <= 0 && state.getValue(HangingTendrilBlock.TWITCHING)) {
+			state = state.setValue(HangingTendrilBlock.TWITCHING, false);
+			level.setBlockAndUpdate(pos, state);
 		}
-		--this.ticksToStopTwitching;
+		if (this.ticksToStopTwitching > 0) --this.ticksToStopTwitching;
 		if (this.ringOutTicksLeft >= 0) {
 			--this.ringOutTicksLeft;
 		} else if (state.getValue(HangingTendrilBlock.WRINGING_OUT)) {
@@ -96,7 +100,7 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 			level.setBlockAndUpdate(pos, state);
 			if (this.storedXP > 0) {
 				int droppedXP = this.storedXP > 1 ? (int) (this.storedXP * MILK_XP_PERCENTAGE) : 1;
-				ExperienceOrb.award((ServerLevel) level, Vec3.atBottomCenterOf(pos), droppedXP);
+				ExperienceOrb.award(level, Vec3.atBottomCenterOf(pos), droppedXP);
 				this.storedXP = this.storedXP - droppedXP;
 				level.gameEvent(null, GameEvent.BLOCK_CHANGE, pos);
 			}
@@ -109,22 +113,45 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 			this.activeTicks += 1;
 		}
 		VibrationSystem.Ticker.tick(level, this.getVibrationData(), this.getVibrationUser());
+
+		BlockState currentState = level.getBlockState(pos);
+		return currentState.getBlock() instanceof HangingTendrilBlock && this.isBusy(currentState);
+	}
+
+	private boolean isBusy(@NotNull BlockState state) {
+		return this.ticksToStopTwitching > 0
+			|| state.getValue(HangingTendrilBlock.TWITCHING)
+			|| this.ringOutTicksLeft >= 0
+			|| state.getValue(HangingTendrilBlock.WRINGING_OUT)
+			|| this.activeTicks > 0
+			|| state.getValue(HangingTendrilBlock.PHASE) != SculkSensorPhase.INACTIVE
+			|| this.vibrationData.getCurrentVibration() != null
+			|| this.vibrationData.getSelectionStrategy().chosenCandidate(Long.MAX_VALUE).isPresent();
+	}
+
+	@NotNull
+	public ResourceLocation getTexture(long gameTime) {
+		if (this.ringOutTicksLeft > 0) {
+			return getFrame(MILK_TEXTURES, MILK_ANIM_SPEED, gameTime);
+		} else if (!SculkSensorBlock.canActivate(this.getBlockState())) {
+			return getFrame(ACTIVE_TEXTURES, ACTIVE_ANIM_SPEED, gameTime);
+		} else if (this.ticksToStopTwitching > 0) {
+			return getFrame(TWITCHING_TEXTURES, TWITCHING_ANIM_SPEED, gameTime);
+		}
+		return getFrame(INACTIVE_TEXTURES, INACTIVE_ANIM_SPEED, gameTime);
+	}
+
+	@NotNull
+	private static ResourceLocation getFrame(ResourceLocation @NotNull [] frames, int animSpeed, long gameTime) {
+		return frames[(int) ((gameTime / animSpeed) % frames.length)];
 	}
 
-	public void clientTick(@NotNull Level level, @NotNull BlockState state) {
-		this.twitching = this.ticksToStopTwitching > 0;
-		this.milking = this.ringOutTicksLeft > 0;
-		this.active = !SculkSensorBlock.canActivate(state);
-		long time = level.getGameTime();
-		if (milking) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "milk" + (((time / MILK_ANIM_SPEED) % MILK_FRAMES) + 1) + ".png");
-		} else if (active) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "active" + (((time / ACTIVE_ANIM_SPEED) % ACTIVE_FRAMES) + 1) + ".png");
-		} else if (twitching) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "twitch" + (((time / TWITCHING_ANIM_SPEED) % TWITCHING_FRAMES) + 1) + ".png");
-		} else {
-			this.texture = WWConstants.id(BASE_TEXTURE + "inactive" + (((time / INACTIVE_ANIM_SPEED) % INACTIVE_FRAMES) + 1) + ".png");
+	private static ResourceLocation @NotNull [] createFrames(String name, int frameCount) {
+		ResourceLocation[] frames = new ResourceLocation[frameCount];
+		for (int i = 0; i < frameCount; i++) {
+			frames[i] = WWConstants.id(BASE_TEXTURE + name + (i + 1) + ".png");
 		}
+		return frames;
 	}
 
 	public int getStoredXP() {
@@ -253,7 +280,12 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 		) {
 			if (pos.equals(this.blockPos) && (gameEvent == GameEvent.BLOCK_DESTROY || gameEvent == GameEvent.BLOCK_PLACE)) return false;
 			BlockState state = level.getBlockState(HangingTendrilBlockEntity.this.getBlockPos());
-			return state.getBlock() instanceof HangingTendrilBlock && HangingTendrilBlock.canActivate(state) && !state.getValue(HangingTendrilBlock.WRINGING_OUT);
+			if (state.getBlock() instanceof HangingTendrilBlock && HangingTendrilBlock.canActivate(state) && !state.getValue(HangingTendrilBlock.WRINGING_OUT)) {
+				// The vibration needs ticks to travel, so wake the tendril up.
+				HangingTendrilBlock.wake(level, this.blockPos, state.getBlock());
+				return true;
+			}
+			return false;
 		}
 
 		@Override
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.Objects;
 import net.frozenblock.wilderwild.block.impl.ChestUtil;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
+import net.frozenblock.wilderwild.config.WWRuntimeFlags;
 import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
 import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
@@ -211,18 +212,20 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	public void liftLid(float liftAmount, boolean ancient) {
 		this.openProgress = Mth.clamp(this.openProgress + (!ancient ? liftAmount * 2F : liftAmount), 0F, MAX_OPEN_PERCENTAGE);
 		this.highestLidPoint = this.openProgress;
-		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * (!ancient ? MAX_TIME_OPEN : MAX_TIME_OPEN_ANCIENT) * WWBlockConfig.get().stoneChest.getStoneChestTimer());
+		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * (!ancient ? MAX_TIME_OPEN : MAX_TIME_OPEN_ANCIENT) * WWRuntimeFlags.get().stoneChestTimer());
 		if (this.level != null) {
 			this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
+			if (!this.level.isClientSide) WWStoneChestLidPacket.queue(this);
 		}
 	}
 
 	public void setLid(float liftAmount) {
 		this.openProgress = Mth.clamp(liftAmount, 0F, MAX_OPEN_PERCENTAGE);
 		this.highestLidPoint = this.openProgress;
-		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * MAX_TIME_OPEN_ANCIENT * WWBlockConfig.get().stoneChest.getStoneChestTimer());
+		this.stillLidTicks = (int) (Math.max((this.openProgress), MIN_PERCENTAGE_OF_TIME_OPEN) * MAX_TIME_OPEN_ANCIENT * WWRuntimeFlags.get().stoneChestTimer());
 		if (this.level != null) {
 			this.level.updateNeighbourForOutputSignal(this.getBlockPos(), this.getBlockState().getBlock());
+			if (!this.level.isClientSide) WWStoneChestLidPacket.queue(this);
 		}
 	}
 
@@ -275,16 +278,14 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		return super.stillValid(player) && !this.closing && this.openProgress >= 0.3;
 	}
 
+	/**
+	 * Copies this lid onto the other half of a double chest.
+	 * <p>
+	 * Lids are only sent to clients when lifted, see {@link WWStoneChestLidPacket#queue(StoneChestBlockEntity)}.
+	 */
 	public void syncLidValuesAndUpdate(@Nullable StoneChestBlockEntity otherStoneChest) {
-		boolean shouldSend = !this.level.isClientSide && this.openProgress != this.prevOpenProgress;
 		if (otherStoneChest != null) {
 			this.syncValues(otherStoneChest);
-			if (shouldSend) {
-				WWStoneChestLidPacket.sendToAll(otherStoneChest);
-			}
-		}
-		if (shouldSend) {
-			WWStoneChestLidPacket.sendToAll(this);
 		}
 	}
 
@@ -79,6 +79,12 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 		}
 	}
 
+	@Override
+	public void setRemoved() {
+		super.setRemoved();
+		this.termiteManager.detach();
+	}
+
 	@Override
 	public ClientboundBlockEntityDataPacket getUpdatePacket() {
 		return ClientboundBlockEntityDataPacket.create(this);
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.HashMap;
+import java.util.Map;
+import net.frozenblock.wilderwild.registry.WWBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps track of every Algae block in the loaded chunks of a {@link ServerLevel}.
+ * <p>
+ * Each chunk section containing Algae stores a bitmap of its Algae and how many there are,
+ * so nearby Algae can be counted without looking up any block states, and sections without Algae are skipped entirely.
+ * Sections are scanned when their chunk loads and kept up to date as Algae is placed and removed.
+ */
+public final class AlgaeDensityField {
+	private static final Map<ResourceKey<Level>, AlgaeDensityField> FIELDS = new HashMap<>();
+
+	private final Long2ObjectOpenHashMap<Section> sections = new Long2ObjectOpenHashMap<>();
+
+	private AlgaeDensityField() {
+	}
+
+	@NotNull
+	public static AlgaeDensityField get(@NotNull ServerLevel level) {
+		return FIELDS.computeIfAbsent(level.dimension(), dimension -> new AlgaeDensityField());
+	}
+
+	public static void clearFields() {
+		FIELDS.clear();
+	}
+
+	public static void onChunkLoad(@NotNull ServerLevel level, @NotNull LevelChunk chunk) {
+		AlgaeDensityField field = get(level);
+		field.removeChunk(chunk);
+
+		ChunkPos chunkPos = chunk.getPos();
+		LevelChunkSection[] chunkSections = chunk.getSections();
+		for (int index = 0; index < chunkSections.length; index++) {
+			LevelChunkSection chunkSection = chunkSections[index];
+			if (chunkSection.hasOnlyAir() || !chunkSection.maybeHas(state -> state.is(WWBlocks.ALGAE))) continue;
+
+			long sectionKey = SectionPos.asLong(chunkPos.x, chunk.getSectionYFromSectionIndex(index), chunkPos.z);
+			Section section = null;
+			for (int y = 0; y < SectionPos.SECTION_SIZE; y++) {
+				for (int z = 0; z < SectionPos.SECTION_SIZE; z++) {
+					for (int x = 0; x < SectionPos.SECTION_SIZE; x++) {
+						if (chunkSection.getBlockState(x, y, z).is(WWBlocks.ALGAE)) {
+							if (section == null) section = field.sections.computeIfAbsent(sectionKey, ignored -> new Section());
+							section.set(x, y, z);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	public static void onChunkUnload(@NotNull ServerLevel level, @NotNull LevelChunk chunk) {
+		AlgaeDensityField field = FIELDS.get(level.dimension());
+		if (field != null) field.removeChunk(chunk);
+	}
+
+	private void removeChunk(@NotNull LevelChunk chunk) {
+		if (this.sections.isEmpty()) return;
+		ChunkPos chunkPos = chunk.getPos();
+		for (int sectionY = chunk.getMinSection(); sectionY < chunk.getMaxSection(); sectionY++) {
+			this.sections.remove(SectionPos.asLong(chunkPos.x, sectionY, chunkPos.z));
+		}
+	}
+
+	public void add(@NotNull BlockPos pos) {
+		this.sections.computeIfAbsent(SectionPos.asLong(pos), ignored -> new Section())
+			.set(pos.getX(), pos.getY(), pos.getZ());
+	}
+
+	public void remove(@NotNull BlockPos pos) {
+		long sectionKey = SectionPos.asLong(pos);
+		Section section = this.sections.get(sectionKey);
+		if (section != null && section.clear(pos.getX(), pos.getY(), pos.getZ())) {
+			this.sections.remove(sectionKey);
+		}
+	}
+
+	/**
+	 * Returns whether at least {@code threshold} Algae blocks are within {@code distance} blocks of the given position on every axis.
+	 */
+	public boolean hasNearbyAlgae(@NotNull BlockPos pos, int distance, int threshold) {
+		int minX = pos.getX() - distance;
+		int minY = pos.getY() - distance;
+		int minZ = pos.getZ() - distance;
+		int maxX = pos.getX() + distance;
+		int maxY = pos.getY() + distance;
+		int maxZ = pos.getZ() + distance;
+
+		int count = 0;
+		for (int sectionX = SectionPos.blockToSectionCoord(minX); sectionX <= SectionPos.blockToSectionCoord(maxX); sectionX++) {
+			for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++) {
+				for (int sectionZ = SectionPos.blockToSectionCoord(minZ); sectionZ <= SectionPos.blockToSectionCoord(maxZ); sectionZ++) {
+					Section section = this.sections.get(SectionPos.asLong(sectionX, sectionY, sectionZ));
+					if (section == null) continue;
+					count += section.count(
+						Math.max(minX, SectionPos.sectionToBlockCoord(sectionX)), Math.min(maxX, SectionPos.sectionToBlockCoord(sectionX, 15)),
+						Math.max(minY, SectionPos.sectionToBlockCoord(sectionY)), Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15)),
+						Math.max(minZ, SectionPos.sectionToBlockCoord(sectionZ)), Math.min(maxZ, SectionPos.sectionToBlockCoord(sectionZ, 15)),
+						threshold - count
+					);
+					if (count >= threshold) return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static final class Section {
+		private final long[] occupancy = new long[64];
+		private int count;
+
+		private static int index(int x, int y, int z) {
+			return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+		}
+
+		private void set(int x, int y, int z) {
+			int index = index(x, y, z);
+			long bit = 1L << index;
+			if ((this.occupancy[index >>> 6] & bit) == 0L) {
+				this.occupancy[index >>> 6] |= bit;
+				this.count += 1;
+			}
+		}
+
+		/**
+		 * @return whether this section no longer has any Algae.
+		 */
+		private boolean clear(int x, int y, int z) {
+			int index = index(x, y, z);
+			long bit = 1L << index;
+			if ((this.occupancy[index >>> 6] & bit) != 0L) {
+				this.occupancy[index >>> 6] &= ~bit;
+				this.count -= 1;
+			}
+			return this.count <= 0;
+		}
+
+		private boolean has(int x, int y, int z) {
+			int index = index(x, y, z);
+			return (this.occupancy[index >>> 6] & (1L << index)) != 0L;
+		}
+
+		private int count(int minX, int maxX, int minY, int maxY, int minZ, int maxZ, int needed) {
+			int found = 0;
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					for (int x = minX; x <= maxX; x++) {
+						if (this.has(x, y, z)) {
+							found += 1;
+							if (found >= needed) return found;
+						}
+					}
+				}
+			}
+			return found;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import java.util.Arrays;
+import net.frozenblock.wilderwild.WWConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.particles.BlockParticleOption;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Simulates every clump of leaves falling towards the ground to become Leaf Litter in a {@link ServerLevel}.
+ * <p>
+ * Drops are stored as primitive arrays and advanced together once per tick.
+ * Where a drop will land is predicted once when it starts falling, using the level's heightmap to bound a single clip down its column,
+ * so falling drops never need to check for collisions or exist as entities.
+ */
+public final class FallingLeafLitterSimulator extends SavedData {
+	public static final String FILE_ID = WWConstants.safeString("falling_leaf_litter");
+	private static final double INITIAL_VELOCITY = -0.05D;
+	private static final double GRAVITY = 0.04D;
+	private static final int INITIAL_CAPACITY = 32;
+	private static final int NO_LANDING = Integer.MIN_VALUE;
+
+	private int[] x = new int[INITIAL_CAPACITY];
+	private int[] z = new int[INITIAL_CAPACITY];
+	private double[] y = new double[INITIAL_CAPACITY];
+	private double[] yd = new double[INITIAL_CAPACITY];
+	private int[] landingY = new int[INITIAL_CAPACITY];
+	private Block[] leafLitter = new Block[INITIAL_CAPACITY];
+	private int size;
+
+	private FallingLeafLitterSimulator() {
+	}
+
+	@NotNull
+	public static FallingLeafLitterSimulator get(@NotNull ServerLevel level) {
+		return level.getDataStorage().computeIfAbsent(
+			new SavedData.Factory<>(FallingLeafLitterSimulator::new, FallingLeafLitterSimulator::load, null),
+			FILE_ID
+		);
+	}
+
+	public static void tickLevel(@NotNull ServerLevel level) {
+		get(level).tick(level);
+	}
+
+	/**
+	 * Starts dropping Leaf Litter from the bottom of the given position.
+	 */
+	public void addDrop(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull Block leafLitter) {
+		this.add(pos.getX(), pos.getZ(), pos.getY(), INITIAL_VELOCITY, predictLandingY(level, pos), leafLitter);
+		this.setDirty();
+	}
+
+	/**
+	 * Returns the height of the surface a drop falling from the bottom of the given position will land on.
+	 * <p>
+	 * The heightmap gives the highest surface of the column, so the clip only needs to cover the space between the drop and that surface.
+	 * Drops starting below that surface, like under an overhang, clip down to the bottom of the level instead.
+	 */
+	private static int predictLandingY(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+		int surfaceY = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, pos.getX(), pos.getZ());
+		int clipToY = surfaceY <= pos.getY() ? surfaceY - 1 : level.getMinBuildHeight();
+		Vec3 start = Vec3.atBottomCenterOf(pos);
+		BlockHitResult hitResult = level.clip(
+			new ClipContext(
+				start,
+				new Vec3(start.x, clipToY, start.z),
+				ClipContext.Block.COLLIDER, ClipContext.Fluid.ANY,
+				CollisionContext.empty()
+			)
+		);
+		return hitResult.getType() != HitResult.Type.MISS ? hitResult.getBlockPos().getY() + 1 : NO_LANDING;
+	}
+
+	private void tick(@NotNull ServerLevel level) {
+		if (this.size <= 0) return;
+		int minBuildHeight = level.getMinBuildHeight();
+		boolean changed = false;
+		int i = 0;
+		while (i < this.size) {
+			if (!level.shouldTickBlocksAt(ChunkPos.asLong(this.x[i] >> 4, this.z[i] >> 4))) {
+				i += 1;
+				continue;
+			}
+
+			changed = true;
+			this.yd[i] -= GRAVITY;
+			this.y[i] += this.yd[i];
+			if (this.landingY[i] != NO_LANDING && this.y[i] <= this.landingY[i]) {
+				land(level, new BlockPos(this.x[i], this.landingY[i], this.z[i]), this.leafLitter[i]);
+				this.remove(i);
+			} else if (this.y[i] <= minBuildHeight) {
+				this.remove(i);
+			} else {
+				i += 1;
+			}
+		}
+		if (changed) this.setDirty();
+	}
+
+	private static void land(@NotNull ServerLevel level, @NotNull BlockPos placePos, @NotNull Block leafLitter) {
+		BlockState stateToReplace = level.getBlockState(placePos);
+		if (FallingLeafUtil.isSafePosToPlaceLitter(level, placePos, stateToReplace, leafLitter)) {
+			BlockState litterState = leafLitter.defaultBlockState();
+			level.setBlockAndUpdate(placePos, litterState);
+			level.sendParticles(
+				new BlockParticleOption(ParticleTypes.BLOCK, litterState),
+				placePos.getX() + 0.5D,
+				placePos.getY() + 0.1D,
+				placePos.getZ() + 0.5D,
+				level.getRandom().nextInt(8, 18),
+				0.3D, 0D, 0.3D,
+				0.05D
+			);
+		}
+	}
+
+	private void add(int x, int z, double y, double yd, int landingY, @NotNull Block leafLitter) {
+		if (this.size >= this.x.length) {
+			int capacity = this.x.length * 2;
+			this.x = Arrays.copyOf(this.x, capacity);
+			this.z = Arrays.copyOf(this.z, capacity);
+			this.y = Arrays.copyOf(this.y, capacity);
+			this.yd = Arrays.copyOf(this.yd, capacity);
+			this.landingY = Arrays.copyOf(this.landingY, capacity);
+			this.leafLitter = Arrays.copyOf(this.leafLitter, capacity);
+		}
+		int index = this.size;
+		this.x[index] = x;
+		this.z[index] = z;
+		this.y[index] = y;
+		this.yd[index] = yd;
+		this.landingY[index] = landingY;
+		this.leafLitter[index] = leafLitter;
+		this.size += 1;
+	}
+
+	private void remove(int index) {
+		int last = this.size - 1;
+		this.x[index] = this.x[last];
+		this.z[index] = this.z[last];
+		this.y[index] = this.y[last];
+		this.yd[index] = this.yd[last];
+		this.landingY[index] = this.landingY[last];
+		this.leafLitter[index] = this.leafLitter[last];
+		this.leafLitter[last] = null;
+		this.size = last;
+	}
+
+	@Override
+	@NotNull
+	public CompoundTag save(@NotNull CompoundTag compoundTag, @NotNull HolderLookup.Provider provider) {
+		ListTag drops = new ListTag();
+		for (int i = 0; i < this.size; i++) {
+			CompoundTag drop = new CompoundTag();
+			drop.putInt("X", this.x[i]);
+			drop.putInt("Z", this.z[i]);
+			drop.putDouble("Y", this.y[i]);
+			drop.putDouble("FallVelocity", this.yd[i]);
+			drop.putInt("LandingY", this.landingY[i]);
+			drop.put("LeafLitterBlock", BuiltInRegistries.BLOCK.byNameCodec().encodeStart(NbtOps.INSTANCE, this.leafLitter[i]).getOrThrow());
+			drops.add(drop);
+		}
+		compoundTag.put("Drops", drops);
+		return compoundTag;
+	}
+
+	@NotNull
+	private static FallingLeafLitterSimulator load(@NotNull CompoundTag compoundTag, @NotNull HolderLookup.Provider provider) {
+		FallingLeafLitterSimulator simulator = new FallingLeafLitterSimulator();
+		ListTag drops = compoundTag.getList("Drops", Tag.TAG_COMPOUND);
+		for (int i = 0; i < drops.size(); i++) {
+			CompoundTag drop = drops.getCompound(i);
+			BuiltInRegistries.BLOCK.byNameCodec()
+				.parse(NbtOps.INSTANCE, drop.get("LeafLitterBlock"))
+				.resultOrPartial(WWConstants.LOGGER::error)
+				.ifPresent(leafLitter -> simulator.add(
+					drop.getInt("X"),
+					drop.getInt("Z"),
+					drop.getDouble("Y"),
+					drop.getDouble("FallVelocity"),
+					drop.getInt("LandingY"),
+					leafLitter
+				));
+		}
+		return simulator;
+	}
+}
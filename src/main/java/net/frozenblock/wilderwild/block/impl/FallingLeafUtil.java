@@ -23,9 +23,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import net.frozenblock.wilderwild.block.LeafLitterBlock;
-import net.frozenblock.wilderwild.entity.FallingLeafTicker;
 import net.frozenblock.wilderwild.particle.options.LeafParticleOptions;
-import net.frozenblock.wilderwild.registry.WWEntityTypes;
 import net.frozenblock.wilderwild.registry.WWParticleTypes;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -109,12 +107,9 @@ public class FallingLeafUtil {
 						0.05D
 					);
 					sendLeafClusterParticle(world, pos, fallingLeafData);
-					fallingLeafData.leafLitterBlock.ifPresent(leafLitterBlock -> FallingLeafTicker.createAndSpawn(
-						WWEntityTypes.FALLING_LEAVES,
-						world,
-						pos,
-						leafLitterBlock
-					));
+					fallingLeafData.leafLitterBlock.ifPresent(
+						leafLitterBlock -> FallingLeafLitterSimulator.get(world).addDrop(world, pos, leafLitterBlock)
+					);
 				}
 			}
 		}
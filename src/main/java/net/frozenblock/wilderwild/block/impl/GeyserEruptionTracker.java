@@ -0,0 +1,210 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import java.util.List;
+import java.util.Map;
+import net.frozenblock.wilderwild.block.entity.GeyserBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Keeps track of every erupting {@link GeyserBlockEntity} in a {@link Level}.
+ * <p>
+ * Geysers watch the blocks in their eruption column so their cached column is only rebuilt when one of those blocks changes,
+ * and all erupting geysers within a chunk section share a single entity query each tick.
+ */
+public final class GeyserEruptionTracker {
+	// Client and server levels tick on different threads in singleplayer, so each side keeps its own trackers.
+	private static final Side SERVER = new Side();
+	private static final Side CLIENT = new Side();
+
+	private final Side side;
+	private final Long2ObjectOpenHashMap<ReferenceArrayList<GeyserBlockEntity>> watchedPositions = new Long2ObjectOpenHashMap<>();
+	private final Reference2ObjectOpenHashMap<GeyserBlockEntity, long[]> watchedColumns = new Reference2ObjectOpenHashMap<>();
+	private final Long2ObjectOpenHashMap<ReferenceArrayList<GeyserBlockEntity>> eruptingBySection = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectOpenHashMap<SectionQuery> sectionQueries = new Long2ObjectOpenHashMap<>();
+	private long sectionQueriesTime = Long.MIN_VALUE;
+
+	private GeyserEruptionTracker(Side side) {
+		this.side = side;
+	}
+
+	@NotNull
+	public static GeyserEruptionTracker get(@NotNull Level level) {
+		Side side = level.isClientSide() ? CLIENT : SERVER;
+		GeyserEruptionTracker tracker = side.trackers.get(level);
+		if (tracker == null) {
+			// The client only has one level at a time, so trackers of previous levels are dropped.
+			if (side == CLIENT) side.clear();
+			tracker = new GeyserEruptionTracker(side);
+			side.trackers.put(level, tracker);
+		}
+		return tracker;
+	}
+
+	/**
+	 * Returns the tracker of the given level without creating one, for use when a geyser stops erupting or is removed.
+	 */
+	@Nullable
+	public static GeyserEruptionTracker getIfPresent(@NotNull Level level) {
+		return (level.isClientSide() ? CLIENT : SERVER).trackers.get(level);
+	}
+
+	public static void onLevelUnload(@NotNull Level level) {
+		Side side = level.isClientSide() ? CLIENT : SERVER;
+		GeyserEruptionTracker tracker = side.trackers.remove(level);
+		if (tracker != null && !tracker.watchedColumns.isEmpty()) side.watchingTrackers -= 1;
+	}
+
+	public static void clearServerTrackers() {
+		SERVER.clear();
+	}
+
+	public static void clearClientTrackers() {
+		CLIENT.clear();
+	}
+
+	/**
+	 * Called whenever a block changes, invalidating the cached column of any geyser watching that position.
+	 */
+	public static void onBlockChanged(@NotNull Level level, @NotNull BlockPos pos) {
+		Side side = level.isClientSide() ? CLIENT : SERVER;
+		if (side.watchingTrackers <= 0) return;
+		GeyserEruptionTracker tracker = side.trackers.get(level);
+		if (tracker == null || tracker.watchedPositions.isEmpty()) return;
+
+		ReferenceArrayList<GeyserBlockEntity> geysers = tracker.watchedPositions.get(pos.asLong());
+		if (geysers != null) {
+			// Invalidating unwatches the column, so iterate over a copy.
+			for (GeyserBlockEntity geyser : geysers.toArray(new GeyserBlockEntity[0])) {
+				geyser.invalidateEruptionColumn();
+			}
+		}
+	}
+
+	public void watchColumn(@NotNull GeyserBlockEntity geyser, long @NotNull [] positions) {
+		this.unwatchColumn(geyser);
+		if (this.watchedColumns.isEmpty()) this.side.watchingTrackers += 1;
+		this.watchedColumns.put(geyser, positions);
+		for (long position : positions) {
+			this.watchedPositions.computeIfAbsent(position, ignored -> new ReferenceArrayList<>()).add(geyser);
+		}
+	}
+
+	public void unwatchColumn(@NotNull GeyserBlockEntity geyser) {
+		long[] positions = this.watchedColumns.remove(geyser);
+		if (positions == null) return;
+		if (this.watchedColumns.isEmpty()) this.side.watchingTrackers -= 1;
+		for (long position : positions) {
+			ReferenceArrayList<GeyserBlockEntity> geysers = this.watchedPositions.get(position);
+			if (geysers != null) {
+				geysers.remove(geyser);
+				if (geysers.isEmpty()) this.watchedPositions.remove(position);
+			}
+		}
+	}
+
+	public void startErupting(@NotNull GeyserBlockEntity geyser) {
+		ReferenceArrayList<GeyserBlockEntity> geysers = this.eruptingBySection.computeIfAbsent(
+			SectionPos.asLong(geyser.getBlockPos()),
+			ignored -> new ReferenceArrayList<>()
+		);
+		if (!geysers.contains(geyser)) geysers.add(geyser);
+	}
+
+	public void stopErupting(@NotNull GeyserBlockEntity geyser) {
+		long sectionKey = SectionPos.asLong(geyser.getBlockPos());
+		ReferenceArrayList<GeyserBlockEntity> geysers = this.eruptingBySection.get(sectionKey);
+		if (geysers != null) {
+			geysers.remove(geyser);
+			if (geysers.isEmpty()) {
+				this.eruptingBySection.remove(sectionKey);
+				this.sectionQueries.remove(sectionKey);
+			}
+		}
+		if (this.eruptingBySection.isEmpty()) this.sectionQueries.clear();
+		this.unwatchColumn(geyser);
+	}
+
+	/**
+	 * Returns every living, non-spectator entity that may be inside the eruption of any geyser erupting in the given geyser's chunk section.
+	 * <p>
+	 * The query runs once per section per tick, covering the combined maximum eruption boxes of those geysers.
+	 * If a geyser outside the queried box starts erupting later in the same tick, the section is queried again with a grown box.
+	 * Callers are expected to do their own intersection checks.
+	 */
+	@NotNull
+	public List<Entity> getEntitiesNearEruption(@NotNull Level level, @NotNull GeyserBlockEntity geyser) {
+		long gameTime = level.getGameTime();
+		if (gameTime != this.sectionQueriesTime) {
+			this.sectionQueries.clear();
+			this.sectionQueriesTime = gameTime;
+		}
+
+		long sectionKey = SectionPos.asLong(geyser.getBlockPos());
+		AABB geyserBox = geyser.getMaxEruptionBoundingBox();
+		SectionQuery query = this.sectionQueries.get(sectionKey);
+		if (query != null && contains(query.box(), geyserBox)) return query.entities();
+
+		AABB queryBox = query != null ? query.box().minmax(geyserBox) : geyserBox;
+		ReferenceArrayList<GeyserBlockEntity> geysers = this.eruptingBySection.get(sectionKey);
+		if (geysers != null) {
+			for (GeyserBlockEntity otherGeyser : geysers) {
+				queryBox = queryBox.minmax(otherGeyser.getMaxEruptionBoundingBox());
+			}
+		}
+		level.getProfiler().incrementCounter("geyserEntityQuery");
+		List<Entity> entities = level.getEntities(
+			EntityTypeTest.forClass(Entity.class),
+			queryBox,
+			EntitySelector.ENTITY_STILL_ALIVE.and(EntitySelector.NO_SPECTATORS)
+		);
+		this.sectionQueries.put(sectionKey, new SectionQuery(queryBox, entities));
+		return entities;
+	}
+
+	private static boolean contains(@NotNull AABB outer, @NotNull AABB inner) {
+		return outer.minX <= inner.minX && outer.minY <= inner.minY && outer.minZ <= inner.minZ
+			&& outer.maxX >= inner.maxX && outer.maxY >= inner.maxY && outer.maxZ >= inner.maxZ;
+	}
+
+	private record SectionQuery(AABB box, List<Entity> entities) {
+	}
+
+	private static final class Side {
+		private final Map<Level, GeyserEruptionTracker> trackers = new Reference2ObjectOpenHashMap<>();
+		private int watchingTrackers;
+
+		private void clear() {
+			this.trackers.clear();
+			this.watchingTrackers = 0;
+		}
+	}
+}
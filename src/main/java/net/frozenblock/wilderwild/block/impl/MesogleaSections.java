@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Checks the per-section Mesoglea counts kept by {@link MesogleaSectionInterface} so raycasts can skip Mesoglea handling entirely.
+ */
+public final class MesogleaSections {
+	private static final int MAX_CHECKED_SECTIONS = 64;
+	private static final double CLIP_EPSILON = 1.0E-6D;
+
+	private MesogleaSections() {
+		throw new UnsupportedOperationException("MesogleaSections contains only static declarations.");
+	}
+
+	/**
+	 * Returns whether a raycast between the two positions may pass through Mesoglea.
+	 * <p>
+	 * This is only {@code false} when every chunk section the ray can touch is loaded and contains no Mesoglea.
+	 * The {@code mesogleaClipFastPath} and {@code mesogleaClipSlowPath} profiler counters track how often each outcome happens.
+	 */
+	public static boolean mayClipThroughMesoglea(@NotNull BlockGetter blockGetter, @NotNull Vec3 from, @NotNull Vec3 to) {
+		if (!(blockGetter instanceof Level level)) return true;
+		ProfilerFiller profiler = level.getProfiler();
+
+		int minX = SectionPos.blockToSectionCoord(Mth.floor(Math.min(from.x, to.x) - CLIP_EPSILON));
+		int minY = SectionPos.blockToSectionCoord(Mth.floor(Math.min(from.y, to.y) - CLIP_EPSILON));
+		int minZ = SectionPos.blockToSectionCoord(Mth.floor(Math.min(from.z, to.z) - CLIP_EPSILON));
+		int maxX = SectionPos.blockToSectionCoord(Mth.floor(Math.max(from.x, to.x) + CLIP_EPSILON));
+		int maxY = SectionPos.blockToSectionCoord(Mth.floor(Math.max(from.y, to.y) + CLIP_EPSILON));
+		int maxZ = SectionPos.blockToSectionCoord(Mth.floor(Math.max(from.z, to.z) + CLIP_EPSILON));
+		minY = Math.max(minY, level.getMinSection());
+		maxY = Math.min(maxY, level.getMaxSection() - 1);
+
+		long sectionCount = (long) (maxX - minX + 1) * (maxZ - minZ + 1) * Math.max(0, maxY - minY + 1);
+		if (sectionCount > MAX_CHECKED_SECTIONS) {
+			profiler.incrementCounter("mesogleaClipSlowPath");
+			return true;
+		}
+
+		for (int x = minX; x <= maxX; x++) {
+			for (int z = minZ; z <= maxZ; z++) {
+				LevelChunk chunk = level.getChunkSource().getChunkNow(x, z);
+				if (chunk == null) {
+					profiler.incrementCounter("mesogleaClipSlowPath");
+					return true;
+				}
+				LevelChunkSection[] sections = chunk.getSections();
+				for (int y = minY; y <= maxY; y++) {
+					if (((MesogleaSectionInterface) sections[level.getSectionIndexFromSectionY(y)]).wilderWild$hasMesoglea()) {
+						profiler.incrementCounter("mesogleaClipSlowPath");
+						return true;
+					}
+				}
+			}
+		}
+
+		profiler.incrementCounter("mesogleaClipFastPath");
+		return false;
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.HashMap;
+import java.util.Map;
+import net.frozenblock.wilderwild.block.ScorchedBlock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.LevelEvent;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Tracks the brushing progress of every {@link ScorchedBlock} currently being brushed in a {@link ServerLevel}.
+ * <p>
+ * Progress is only created once a block is first brushed and is discarded as soon as it fully resets or the block is hydrated,
+ * so Scorched blocks don't need a block entity.
+ */
+public final class ScorchedBrushingTable {
+	private static final Map<ResourceKey<Level>, ScorchedBrushingTable> TABLES = new HashMap<>();
+	private static final int BRUSHES_TO_COMPLETE = 10;
+	private static final long RESET_DELAY = 40L;
+	private static final long RESET_INTERVAL = 4L;
+	private static final long COOL_DOWN = 10L;
+
+	private final Long2ObjectOpenHashMap<Progress> progressByPos = new Long2ObjectOpenHashMap<>();
+
+	private ScorchedBrushingTable() {
+	}
+
+	@NotNull
+	public static ScorchedBrushingTable get(@NotNull ServerLevel level) {
+		return TABLES.computeIfAbsent(level.dimension(), dimension -> new ScorchedBrushingTable());
+	}
+
+	public static void clearTables() {
+		TABLES.clear();
+	}
+
+	/**
+	 * Brushes the Scorched block at the given position.
+	 *
+	 * @return whether brushing the block was completed.
+	 */
+	public boolean brush(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state) {
+		long gameTime = level.getGameTime();
+		long posKey = pos.asLong();
+		Progress progress = this.progressByPos.computeIfAbsent(posKey, ignored -> new Progress());
+		progress.resetsAtTick = gameTime + RESET_DELAY;
+		if (gameTime < progress.coolDownEndsAtTick) return false;
+
+		progress.coolDownEndsAtTick = gameTime + COOL_DOWN;
+		int previousCompletionState = progress.getCompletionState();
+		if (++progress.brushCount >= BRUSHES_TO_COMPLETE) {
+			this.progressByPos.remove(posKey);
+			level.levelEvent(LevelEvent.PARTICLES_AND_SOUND_BRUSH_BLOCK_COMPLETE, pos, Block.getId(state));
+			ScorchedBlock.hydrate(state, level, pos);
+			return true;
+		}
+
+		level.scheduleTick(pos, state.getBlock(), (int) RESET_DELAY);
+		int completionState = progress.getCompletionState();
+		if (previousCompletionState != completionState) {
+			level.setBlock(pos, state.setValue(BlockStateProperties.DUSTED, completionState), Block.UPDATE_ALL);
+		}
+		return false;
+	}
+
+	/**
+	 * Slowly undoes the brushing progress of the Scorched block at the given position once it hasn't been brushed for a while.
+	 */
+	public void checkReset(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state) {
+		long posKey = pos.asLong();
+		Progress progress = this.progressByPos.get(posKey);
+		if (progress == null) return;
+
+		long gameTime = level.getGameTime();
+		if (gameTime >= progress.resetsAtTick) {
+			int previousCompletionState = progress.getCompletionState();
+			progress.brushCount = Math.max(0, progress.brushCount - 2);
+			int completionState = progress.getCompletionState();
+			if (previousCompletionState != completionState) {
+				level.setBlock(pos, state.setValue(BlockStateProperties.DUSTED, completionState), Block.UPDATE_ALL);
+			}
+			progress.resetsAtTick = gameTime + RESET_INTERVAL;
+		}
+
+		if (progress.brushCount == 0) {
+			this.progressByPos.remove(posKey);
+		} else {
+			level.scheduleTick(pos, state.getBlock(), (int) (progress.resetsAtTick - gameTime));
+		}
+	}
+
+	public void remove(@NotNull BlockPos pos) {
+		this.progressByPos.remove(pos.asLong());
+	}
+
+	private static final class Progress {
+		private int brushCount;
+		private long resetsAtTick;
+		private long coolDownEndsAtTick;
+
+		private int getCompletionState() {
+			if (this.brushCount == 0) return 0;
+			if (this.brushCount < 3) return 1;
+			if (this.brushCount < 6) return 2;
+			return 3;
+		}
+	}
+}
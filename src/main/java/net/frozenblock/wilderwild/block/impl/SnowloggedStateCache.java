@@ -0,0 +1,134 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds everything a snowlogged {@link BlockState} takes from its snow layer, built once per state.
+ * <p>
+ * Snow layer shapes don't depend on position or context, so they're resolved up front.
+ * Merged shapes are remembered against the block's own shape, which is almost always the same instance between calls,
+ * so {@link Shapes#or(VoxelShape, VoxelShape)} only runs again when the block returns a different shape.
+ */
+public final class SnowloggedStateCache {
+	private static final int COLLISION = 0;
+	private static final int VISUAL = 1;
+	private static final int INTERACTION = 2;
+	private static final int BLOCK_SUPPORT = 3;
+	private static final int OCCLUSION = 4;
+
+	private final BlockState snowEquivalent;
+	private final VoxelShape shape;
+	private final VoxelShape collisionShape;
+	private final VoxelShape visualShape;
+	private final VoxelShape interactionShape;
+	private final VoxelShape blockSupportShape;
+	private final VoxelShape occlusionShape;
+	private final double shapeMaxY;
+	private final float destroySpeed;
+	private final SoundType soundType;
+	private final MergedShape[] mergedShapes = new MergedShape[5];
+
+	public SnowloggedStateCache(@NotNull BlockState snowEquivalent) {
+		EmptyBlockGetter level = EmptyBlockGetter.INSTANCE;
+		BlockPos pos = BlockPos.ZERO;
+		CollisionContext context = CollisionContext.empty();
+		this.snowEquivalent = snowEquivalent;
+		this.shape = snowEquivalent.getShape(level, pos, context);
+		this.collisionShape = snowEquivalent.getCollisionShape(level, pos, context);
+		this.visualShape = snowEquivalent.getVisualShape(level, pos, context);
+		this.interactionShape = snowEquivalent.getInteractionShape(level, pos);
+		this.blockSupportShape = snowEquivalent.getBlockSupportShape(level, pos);
+		this.occlusionShape = snowEquivalent.getOcclusionShape(level, pos);
+		this.shapeMaxY = this.shape.max(Direction.Axis.Y);
+		this.destroySpeed = snowEquivalent.getDestroySpeed(level, pos);
+		this.soundType = snowEquivalent.getSoundType();
+	}
+
+	@NotNull
+	public BlockState snowEquivalent() {
+		return this.snowEquivalent;
+	}
+
+	@NotNull
+	public VoxelShape shape() {
+		return this.shape;
+	}
+
+	public double shapeMaxY() {
+		return this.shapeMaxY;
+	}
+
+	public float destroySpeed() {
+		return this.destroySpeed;
+	}
+
+	@NotNull
+	public SoundType soundType() {
+		return this.soundType;
+	}
+
+	@NotNull
+	public VoxelShape mergeCollisionShape(@NotNull VoxelShape original) {
+		return this.merge(COLLISION, original, this.collisionShape);
+	}
+
+	@NotNull
+	public VoxelShape mergeVisualShape(@NotNull VoxelShape original) {
+		return this.merge(VISUAL, original, this.visualShape);
+	}
+
+	@NotNull
+	public VoxelShape mergeInteractionShape(@NotNull VoxelShape original) {
+		return this.merge(INTERACTION, original, this.interactionShape);
+	}
+
+	@NotNull
+	public VoxelShape mergeBlockSupportShape(@NotNull VoxelShape original) {
+		return this.merge(BLOCK_SUPPORT, original, this.blockSupportShape);
+	}
+
+	@NotNull
+	public VoxelShape mergeOcclusionShape(@NotNull VoxelShape original) {
+		return this.merge(OCCLUSION, original, this.occlusionShape);
+	}
+
+	@NotNull
+	private VoxelShape merge(int type, @NotNull VoxelShape original, @NotNull VoxelShape snowShape) {
+		@Nullable MergedShape mergedShape = this.mergedShapes[type];
+		if (mergedShape == null || mergedShape.original != original) {
+			mergedShape = new MergedShape(original, Shapes.or(original, snowShape));
+			this.mergedShapes[type] = mergedShape;
+		}
+		return mergedShape.merged;
+	}
+
+	private record MergedShape(VoxelShape original, VoxelShape merged) {
+	}
+}
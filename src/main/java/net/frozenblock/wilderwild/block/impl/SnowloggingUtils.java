@@ -19,6 +19,7 @@
 package net.frozenblock.wilderwild.block.impl;
 
 import net.frozenblock.wilderwild.config.WWBlockConfig;
+import net.frozenblock.wilderwild.config.WWRuntimeFlags;
 import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -56,7 +57,7 @@ public class SnowloggingUtils {
 	}
 
 	public static boolean supportsSnowlogging(@Nullable BlockState state) {
-		if (!WWBlockConfig.SNOWLOGGING) return false;
+		if (!CONFIG_SNOWLOGGING_ON_BOOT || !WWRuntimeFlags.get().snowlogging()) return false;
 		//noinspection ConstantValue
 		return state != null && state.getValues() != null && state.hasProperty(SNOW_LAYERS);
 	}
@@ -76,9 +77,24 @@ public class SnowloggingUtils {
 
 	@NotNull
 	public static BlockState getSnowEquivalent(BlockState state) {
+		if (isSnowlogged(state)) return getSnowloggedCache(state).snowEquivalent();
+		return createSnowEquivalent(state);
+	}
+
+	@NotNull
+	public static BlockState createSnowEquivalent(@NotNull BlockState state) {
 		return Blocks.SNOW.defaultBlockState().setValue(BlockStateProperties.LAYERS, Math.max(1, getSnowLayers(state)));
 	}
 
+	/**
+	 * Returns the cached snow layer data of a snowlogged {@link BlockState}.
+	 * Only call this for states where {@link #isSnowlogged(BlockState)} is true.
+	 */
+	@NotNull
+	public static SnowloggedStateCache getSnowloggedCache(@NotNull BlockState state) {
+		return ((SnowloggedStateInterface) state).wilderWild$getSnowloggedCache();
+	}
+
 	@Nullable
 	public static BlockState getStateWithoutSnow(@Nullable BlockState state) {
 		return isSnowlogged(state) ? state.setValue(SNOW_LAYERS, 0) : state;
@@ -123,7 +139,7 @@ public class SnowloggingUtils {
 	}
 
 	public static float getSnowDestroySpeed(BlockState state, BlockGetter level, BlockPos pos) {
-		return getSnowEquivalent(state).getDestroySpeed(level, pos);
+		return getSnowloggedCache(state).destroySpeed();
 	}
 
 	public static void onRandomTick(BlockState state, ServerLevel level, BlockPos pos) {
@@ -138,8 +154,7 @@ public class SnowloggingUtils {
 	public static boolean isOriginalBlockCovered(BlockState state, BlockGetter level, BlockPos pos) {
 		if (isSnowlogged(state)) {
 			VoxelShape blockShape = state.getShape(level, pos);
-			VoxelShape snowLayerShape = getSnowEquivalent(state).getShape(level, pos);
-			return blockShape.max(Direction.Axis.Y) <= snowLayerShape.max(Direction.Axis.Y);
+			return blockShape.max(Direction.Axis.Y) <= getSnowloggedCache(state).shapeMaxY();
 		}
 		return false;
     }
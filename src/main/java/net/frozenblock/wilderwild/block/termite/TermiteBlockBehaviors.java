@@ -18,7 +18,7 @@
 
 package net.frozenblock.wilderwild.block.termite;
 
-import java.util.List;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import java.util.Optional;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.registry.WWBlocks;
@@ -27,7 +27,6 @@ import net.frozenblock.wilderwild.registry.WilderWildRegistries;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderSet;
-import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
@@ -43,6 +42,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class TermiteBlockBehaviors {
+	private static Reference2ObjectOpenHashMap<Block, Optional<Holder<TermiteBlockBehavior>>> NATURAL_LOOKUP = new Reference2ObjectOpenHashMap<>();
+	private static Reference2ObjectOpenHashMap<Block, Optional<Holder<TermiteBlockBehavior>>> PLAYER_LOOKUP = new Reference2ObjectOpenHashMap<>();
+	@Nullable
+	private static RegistryAccess lookupRegistryAccess;
 
 	private static @NotNull ResourceKey<TermiteBlockBehavior> createKey(String string) {
 		return ResourceKey.create(WilderWildRegistries.TERMITE_BLOCK_BEHAVIOR, WWConstants.id(string));
@@ -183,21 +186,47 @@ public final class TermiteBlockBehaviors {
 	}
 
 	public static Optional<Holder<TermiteBlockBehavior>> getTermiteBlockBehavior(@NotNull RegistryAccess registryAccess, Block edibleBlock, boolean isNatural) {
-		Registry<TermiteBlockBehavior> registry = registryAccess.registryOrThrow(WilderWildRegistries.TERMITE_BLOCK_BEHAVIOR);
-		List<Holder.Reference<TermiteBlockBehavior>> behaviors = registry.holders()
-			.filter(reference -> {
-				TermiteBlockBehavior termiteBlockBehavior = reference.value();
-				if (termiteBlockBehavior.getEdibleBlocks().contains(edibleBlock.builtInRegistryHolder())) {
-					return isNatural ? termiteBlockBehavior.naturalTermiteUsable() : termiteBlockBehavior.playerPlacedTermiteUsable();
-				}
-				return false;
-			})
-			.toList();
-
-		if (!behaviors.isEmpty()) {
-			return Optional.of(behaviors.getFirst());
+		if (registryAccess != lookupRegistryAccess) {
+			rebuildLookup(registryAccess);
 		}
-		return Optional.empty();
+		return (isNatural ? NATURAL_LOOKUP : PLAYER_LOOKUP).getOrDefault(edibleBlock, Optional.empty());
+	}
+
+	public static boolean hasTermiteBlockBehavior(@NotNull RegistryAccess registryAccess, Block edibleBlock, boolean isNatural) {
+		return getTermiteBlockBehavior(registryAccess, edibleBlock, isNatural).isPresent();
+	}
+
+	/**
+	 * Compiles the {@link TermiteBlockBehavior} registry into identity-keyed natural and player lookup tables.
+	 * <p>
+	 * Should be called whenever the registry or the block tags it references may have changed.
+	 */
+	public static void rebuildLookup(@NotNull RegistryAccess registryAccess) {
+		Reference2ObjectOpenHashMap<Block, Optional<Holder<TermiteBlockBehavior>>> naturalLookup = new Reference2ObjectOpenHashMap<>();
+		Reference2ObjectOpenHashMap<Block, Optional<Holder<TermiteBlockBehavior>>> playerLookup = new Reference2ObjectOpenHashMap<>();
+
+		registryAccess.registry(WilderWildRegistries.TERMITE_BLOCK_BEHAVIOR).ifPresent(registry -> registry.holders().forEach(reference -> {
+			TermiteBlockBehavior termiteBlockBehavior = reference.value();
+			Optional<Holder<TermiteBlockBehavior>> optionalBehavior = Optional.of(reference);
+			for (Holder<Block> blockHolder : termiteBlockBehavior.getEdibleBlocks()) {
+				Block block = blockHolder.value();
+				// The first matching behavior in the registry takes priority.
+				if (termiteBlockBehavior.naturalTermiteUsable()) naturalLookup.putIfAbsent(block, optionalBehavior);
+				if (termiteBlockBehavior.playerPlacedTermiteUsable()) playerLookup.putIfAbsent(block, optionalBehavior);
+			}
+		}));
+
+		naturalLookup.trim();
+		playerLookup.trim();
+		NATURAL_LOOKUP = naturalLookup;
+		PLAYER_LOOKUP = playerLookup;
+		lookupRegistryAccess = registryAccess;
+	}
+
+	public static void clearLookup() {
+		NATURAL_LOOKUP = new Reference2ObjectOpenHashMap<>();
+		PLAYER_LOOKUP = new Reference2ObjectOpenHashMap<>();
+		lookupRegistryAccess = null;
 	}
 
 	public static void bootstrap(BootstrapContext<TermiteBlockBehavior> bootstrapContext) {
@@ -0,0 +1,396 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.termite;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.frozenblock.wilderwild.registry.WWParticleTypes;
+import net.frozenblock.wilderwild.registry.WWSounds;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Ticks every {@link TermiteManager.Termite} of a {@link ServerLevel} in one pass.
+ * <p>
+ * Termites are stored as primitive arrays grouped by the chunk section they are currently in,
+ * so each section only needs a single chunk lookup per tick.
+ * Mounds register with the engine and only handle spawning and despawning their own termites.
+ */
+public final class TermiteEngine {
+	private static final Map<ResourceKey<Level>, TermiteEngine> ENGINES = new HashMap<>();
+
+	private final ServerLevel level;
+	private final Long2ObjectOpenHashMap<Mound> mounds = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectOpenHashMap<TermiteSection> sections = new Long2ObjectOpenHashMap<>();
+	private final List<TermiteManager.Termite> pendingMoves = new ArrayList<>();
+	private final List<Mound> pendingMoveMounds = new ArrayList<>();
+	private final TermiteManager.Termite scratchTermite = new TermiteManager.Termite(BlockPos.ZERO, BlockPos.ZERO, 0, 0, 0, false, 0);
+
+	private TermiteEngine(ServerLevel level) {
+		this.level = level;
+	}
+
+	@NotNull
+	public static TermiteEngine get(@NotNull ServerLevel level) {
+		TermiteEngine engine = ENGINES.get(level.dimension());
+		if (engine == null || engine.level != level) {
+			engine = new TermiteEngine(level);
+			ENGINES.put(level.dimension(), engine);
+		}
+		return engine;
+	}
+
+	public static void tickLevel(@NotNull ServerLevel level) {
+		TermiteEngine engine = ENGINES.get(level.dimension());
+		if (engine != null && engine.level == level) {
+			engine.tick();
+		}
+	}
+
+	public static void clearEngines() {
+		ENGINES.clear();
+	}
+
+	public boolean isRegistered(@NotNull BlockPos moundPos) {
+		return this.mounds.containsKey(moundPos.asLong());
+	}
+
+	/**
+	 * Hands the given termites over to the engine.
+	 * <p>
+	 * Any termites previously registered for the same mound are discarded.
+	 */
+	public void register(@NotNull BlockPos moundPos, boolean natural, @NotNull List<TermiteManager.Termite> termites) {
+		long key = moundPos.asLong();
+		if (this.mounds.containsKey(key)) {
+			this.removeAll(this.mounds.get(key), null);
+		}
+		Mound mound = new Mound(moundPos.immutable(), natural);
+		this.mounds.put(key, mound);
+		for (TermiteManager.Termite termite : termites) {
+			this.add(mound, termite);
+		}
+	}
+
+	/**
+	 * Removes a mound from the engine, returning its termites to the given list so they can still be saved.
+	 */
+	public void unregister(@NotNull BlockPos moundPos, @NotNull List<TermiteManager.Termite> output) {
+		Mound mound = this.mounds.remove(moundPos.asLong());
+		if (mound != null) {
+			this.removeAll(mound, output);
+		}
+	}
+
+	public void markMoundTicked(@NotNull BlockPos moundPos, boolean natural) {
+		Mound mound = this.mounds.get(moundPos.asLong());
+		if (mound != null) {
+			mound.natural = natural;
+			mound.lastTickTime = this.level.getGameTime();
+		}
+	}
+
+	public int termiteCount(@NotNull BlockPos moundPos) {
+		Mound mound = this.mounds.get(moundPos.asLong());
+		return mound != null ? mound.count : 0;
+	}
+
+	public void addTermite(@NotNull BlockPos moundPos, @NotNull TermiteManager.Termite termite) {
+		Mound mound = this.mounds.get(moundPos.asLong());
+		if (mound != null) {
+			this.add(mound, termite);
+		}
+	}
+
+	/**
+	 * Removes a random termite belonging to the given mound.
+	 *
+	 * @return the position the termite was at, or {@code null} if the mound has no termites.
+	 */
+	@Nullable
+	public BlockPos removeRandomTermite(@NotNull BlockPos moundPos, @NotNull RandomSource random) {
+		Mound mound = this.mounds.get(moundPos.asLong());
+		if (mound == null || mound.count <= 0) return null;
+
+		int target = random.nextInt(mound.count);
+		for (Long2IntMap.Entry entry : mound.sections.long2IntEntrySet()) {
+			TermiteSection section = this.sections.get(entry.getLongKey());
+			if (section == null) continue;
+			for (int i = 0; i < section.size; i++) {
+				if (section.mounds[i] != mound) continue;
+				if (target-- == 0) {
+					BlockPos pos = BlockPos.of(section.pos[i]);
+					this.removeAt(section, i);
+					return pos;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Removes every termite of the given mound, playing the same effects as a termite returning to its mound.
+	 */
+	public void clearTermites(@NotNull BlockPos moundPos) {
+		Mound mound = this.mounds.get(moundPos.asLong());
+		if (mound == null) return;
+
+		List<TermiteManager.Termite> removed = new ArrayList<>();
+		this.removeAll(mound, removed);
+		for (TermiteManager.Termite termite : removed) {
+			this.level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
+			this.level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, TermiteManager.BLOCK_SOUND_VOLUME, 1F);
+		}
+	}
+
+	public void collectTermites(@NotNull BlockPos moundPos, @NotNull List<TermiteManager.Termite> output) {
+		Mound mound = this.mounds.get(moundPos.asLong());
+		if (mound == null) return;
+
+		for (Long2IntMap.Entry entry : mound.sections.long2IntEntrySet()) {
+			TermiteSection section = this.sections.get(entry.getLongKey());
+			if (section == null) continue;
+			for (int i = 0; i < section.size; i++) {
+				if (section.mounds[i] == mound) {
+					output.add(section.toTermite(i));
+				}
+			}
+		}
+	}
+
+	private void tick() {
+		long gameTime = this.level.getGameTime();
+		RandomSource random = this.level.getRandom();
+		TermiteManager.Termite termite = this.scratchTermite;
+
+		for (TermiteSection section : this.sections.values()) {
+			long sectionKey = section.key;
+			boolean tickable = this.level.shouldTickBlocksAt(ChunkPos.asLong(SectionPos.x(sectionKey), SectionPos.z(sectionKey)));
+
+			// Iterate backwards so swap-removal never skips an unprocessed termite.
+			for (int i = section.size - 1; i >= 0; i--) {
+				Mound mound = section.mounds[i];
+				if (mound.lastTickTime != gameTime) continue;
+
+				section.loadInto(i, termite);
+				termite.mound = mound.pos;
+				boolean alive = termite.tick(this.level, mound.natural, random, tickable);
+				// Eating a block can cause updates that remove termites from this section, so make sure this one still exists.
+				if (i >= section.size || section.mounds[i] != mound || section.id[i] != termite.id) continue;
+
+				if (alive) {
+					BlockPos termitePos = termite.getPos();
+					this.level.sendParticles(
+						WWParticleTypes.TERMITE,
+						termitePos.getX() + 0.5D,
+						termitePos.getY() + 0.5D,
+						termitePos.getZ() + 0.5D,
+						termite.eating ? TermiteManager.PARTICLE_COUNT_WHILE_EATING : TermiteManager.PARTICLE_COUNT,
+						0D,
+						0D,
+						0D,
+						0D
+					);
+
+					long newSectionKey = SectionPos.asLong(termitePos);
+					if (newSectionKey == sectionKey) {
+						section.storeFrom(i, termite);
+					} else {
+						this.pendingMoves.add(section.toTermite(i, termite));
+						this.pendingMoveMounds.add(mound);
+						this.removeAt(section, i);
+					}
+				} else {
+					this.level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, TermiteManager.BLOCK_SOUND_VOLUME, 1F);
+					this.level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(mound.pos));
+					this.removeAt(section, i);
+				}
+			}
+		}
+
+		for (int i = 0; i < this.pendingMoves.size(); i++) {
+			Mound mound = this.pendingMoveMounds.get(i);
+			if (this.mounds.get(mound.pos.asLong()) == mound) {
+				this.add(mound, this.pendingMoves.get(i));
+			}
+		}
+		this.pendingMoves.clear();
+		this.pendingMoveMounds.clear();
+
+		this.sections.values().removeIf(section -> section.size == 0);
+	}
+
+	private void add(@NotNull Mound mound, @NotNull TermiteManager.Termite termite) {
+		long sectionKey = SectionPos.asLong(termite.pos);
+		TermiteSection section = this.sections.get(sectionKey);
+		if (section == null) {
+			section = new TermiteSection(sectionKey);
+			this.sections.put(sectionKey, section);
+		}
+		section.add(mound, termite);
+		mound.count += 1;
+		mound.sections.addTo(sectionKey, 1);
+	}
+
+	private void removeAt(@NotNull TermiteSection section, int index) {
+		Mound mound = section.mounds[index];
+		mound.count -= 1;
+		if (mound.sections.addTo(section.key, -1) <= 1) {
+			mound.sections.remove(section.key);
+		}
+		section.removeAt(index);
+	}
+
+	private void removeAll(@NotNull Mound mound, @Nullable List<TermiteManager.Termite> output) {
+		for (long sectionKey : mound.sections.keySet().toLongArray()) {
+			TermiteSection section = this.sections.get(sectionKey);
+			if (section == null) continue;
+			for (int i = section.size - 1; i >= 0; i--) {
+				if (section.mounds[i] == mound) {
+					if (output != null) output.add(section.toTermite(i));
+					this.removeAt(section, i);
+				}
+			}
+		}
+		mound.sections.clear();
+		mound.count = 0;
+	}
+
+	private static final class Mound {
+		private final BlockPos pos;
+		private final Long2IntOpenHashMap sections = new Long2IntOpenHashMap();
+		private boolean natural;
+		private long lastTickTime = Long.MIN_VALUE;
+		private int count;
+
+		private Mound(BlockPos pos, boolean natural) {
+			this.pos = pos;
+			this.natural = natural;
+		}
+	}
+
+	private static final class TermiteSection {
+		private static final int INITIAL_CAPACITY = 4;
+
+		private final long key;
+		private int size;
+		private Mound[] mounds = new Mound[INITIAL_CAPACITY];
+		private long[] pos = new long[INITIAL_CAPACITY];
+		private int[] blockDestroyPower = new int[INITIAL_CAPACITY];
+		private int[] idleTicks = new int[INITIAL_CAPACITY];
+		private int[] update = new int[INITIAL_CAPACITY];
+		private boolean[] eating = new boolean[INITIAL_CAPACITY];
+		private int[] id = new int[INITIAL_CAPACITY];
+
+		private TermiteSection(long key) {
+			this.key = key;
+		}
+
+		private void add(Mound mound, TermiteManager.Termite termite) {
+			if (this.size == this.pos.length) {
+				int capacity = this.size * 2;
+				this.mounds = Arrays.copyOf(this.mounds, capacity);
+				this.pos = Arrays.copyOf(this.pos, capacity);
+				this.blockDestroyPower = Arrays.copyOf(this.blockDestroyPower, capacity);
+				this.idleTicks = Arrays.copyOf(this.idleTicks, capacity);
+				this.update = Arrays.copyOf(this.update, capacity);
+				this.eating = Arrays.copyOf(this.eating, capacity);
+				this.id = Arrays.copyOf(this.id, capacity);
+			}
+			this.mounds[this.size] = mound;
+			this.storeFrom(this.size, termite);
+			this.size += 1;
+		}
+
+		private void removeAt(int index) {
+			int last = this.size - 1;
+			if (index != last) {
+				this.mounds[index] = this.mounds[last];
+				this.pos[index] = this.pos[last];
+				this.blockDestroyPower[index] = this.blockDestroyPower[last];
+				this.idleTicks[index] = this.idleTicks[last];
+				this.update[index] = this.update[last];
+				this.eating[index] = this.eating[last];
+				this.id[index] = this.id[last];
+			}
+			this.mounds[last] = null;
+			this.size = last;
+		}
+
+		private void storeFrom(int index, @NotNull TermiteManager.Termite termite) {
+			this.pos[index] = termite.pos.asLong();
+			this.blockDestroyPower[index] = termite.blockDestroyPower;
+			this.idleTicks[index] = termite.idleTicks;
+			this.update[index] = termite.update;
+			this.eating[index] = termite.eating;
+			this.id[index] = termite.id;
+		}
+
+		private void loadInto(int index, @NotNull TermiteManager.Termite termite) {
+			termite.pos = BlockPos.of(this.pos[index]);
+			termite.blockDestroyPower = this.blockDestroyPower[index];
+			termite.idleTicks = this.idleTicks[index];
+			termite.update = this.update[index];
+			termite.eating = this.eating[index];
+			termite.id = this.id[index];
+		}
+
+		@NotNull
+		private TermiteManager.Termite toTermite(int index) {
+			return new TermiteManager.Termite(
+				this.mounds[index].pos,
+				BlockPos.of(this.pos[index]),
+				this.blockDestroyPower[index],
+				this.idleTicks[index],
+				this.update[index],
+				this.eating[index],
+				this.id[index]
+			);
+		}
+
+		@NotNull
+		private TermiteManager.Termite toTermite(int index, @NotNull TermiteManager.Termite ticked) {
+			return new TermiteManager.Termite(
+				this.mounds[index].pos,
+				ticked.pos,
+				ticked.blockDestroyPower,
+				ticked.idleTicks,
+				ticked.update,
+				ticked.eating,
+				ticked.id
+			);
+		}
+	}
+}
@@ -28,7 +28,6 @@ import java.util.Optional;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
 import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
-import net.frozenblock.wilderwild.registry.WWParticleTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.minecraft.Util;
@@ -63,6 +62,10 @@ public class TermiteManager {
 	public static final int PARTICLE_COUNT = 6;
 	public static final float BLOCK_SOUND_VOLUME = 0.6F;
 	private final ArrayList<Termite> termites = new ArrayList<>();
+	@Nullable
+	private TermiteEngine engine;
+	@Nullable
+	private BlockPos moundPos;
 	public int ticksToNextTermite;
 	public int highestID;
 
@@ -96,38 +99,22 @@ public class TermiteManager {
 
 	public void addTermite(@NotNull BlockPos pos) {
 		Termite termite = new Termite(pos, pos, 0, 0, 0, false, this.highestID += 1);
-		this.termites.add(termite);
+		if (this.engine != null) {
+			this.engine.addTermite(pos, termite);
+		} else {
+			this.termites.add(termite);
+		}
 	}
 
 	public void tick(@NotNull Level level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn) {
+		if (!(level instanceof ServerLevel serverLevel)) return;
+		TermiteEngine engine = this.attach(serverLevel, pos, natural);
+		engine.markMoundTicked(pos, natural);
+
 		int maxTermites = maxTermites(natural, awake, canSpawn);
 		RandomSource random = level.getRandom();
 
-		this.termites.removeIf(termite -> {
-			if (termite.tick(level, natural, random)) {
-				if (level instanceof ServerLevel serverLevel) {
-					BlockPos termitePos = termite.getPos();
-					serverLevel.sendParticles(
-						WWParticleTypes.TERMITE,
-						termitePos.getX() + 0.5D,
-						termitePos.getY() + 0.5D,
-						termitePos.getZ() + 0.5D,
-						termite.eating ? PARTICLE_COUNT_WHILE_EATING : PARTICLE_COUNT,
-						0D,
-						0D,
-						0D,
-						0D
-					);
-				}
-			} else {
-				level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
-				level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
-				return true;
-			}
-			return false;
-		});
-
-		if (this.termites.size() < maxTermites) {
+		if (engine.termiteCount(pos) < maxTermites) {
 			if (this.ticksToNextTermite > 0) {
 				--this.ticksToNextTermite;
 			} else {
@@ -137,17 +124,48 @@ public class TermiteManager {
 				this.ticksToNextTermite = natural ? TERMITE_RELEASE_COUNTDOWN_NATURAL : TERMITE_RELEASE_COUNTDOWN;
 			}
 		}
-		while (this.termites.size() > maxTermites) {
-			Termite termite = this.termites.get(random.nextInt(this.termites.size()));
-			level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
-			this.termites.remove(termite);
+		while (engine.termiteCount(pos) > maxTermites) {
+			BlockPos termitePos = engine.removeRandomTermite(pos, random);
+			if (termitePos == null) break;
+			level.playSound(null, termitePos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
 			level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
 		}
 	}
 	public static final int TERMITE_RELEASE_COUNTDOWN = 200;
 	public static final int TERMITE_RELEASE_COUNTDOWN_NATURAL = 320;
 
+	/**
+	 * Hands this mound's termites over to the level's {@link TermiteEngine}, which ticks them from then on.
+	 */
+	@NotNull
+	private TermiteEngine attach(@NotNull ServerLevel level, @NotNull BlockPos pos, boolean natural) {
+		TermiteEngine engine = TermiteEngine.get(level);
+		if (this.engine != engine || this.moundPos == null || !this.moundPos.equals(pos) || !engine.isRegistered(pos)) {
+			this.detach();
+			engine.register(pos, natural, this.termites);
+			this.termites.clear();
+			this.engine = engine;
+			this.moundPos = pos.immutable();
+		}
+		return engine;
+	}
+
+	/**
+	 * Takes this mound's termites back from the {@link TermiteEngine}, keeping them around so they can still be saved.
+	 */
+	public void detach() {
+		if (this.engine != null && this.moundPos != null) {
+			this.termites.clear();
+			this.engine.unregister(this.moundPos, this.termites);
+		}
+		this.engine = null;
+		this.moundPos = null;
+	}
+
 	public void clearTermites(@NotNull Level level) {
+		if (this.engine != null && this.moundPos != null) {
+			this.engine.clearTermites(this.moundPos);
+		}
 		for (Termite termite : this.termites) {
 			level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
 			level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
@@ -156,12 +174,16 @@ public class TermiteManager {
 	}
 
 	public ArrayList<Termite> termites() {
+		if (this.engine != null && this.moundPos != null) {
+			this.termites.clear();
+			this.engine.collectTermites(this.moundPos, this.termites);
+		}
 		return this.termites;
 	}
 
 	public void saveAdditional(@NotNull CompoundTag tag) {
 		Termite.LIST_CODEC
-			.encodeStart(NbtOps.INSTANCE, this.termites)
+			.encodeStart(NbtOps.INSTANCE, this.termites())
 			.resultOrPartial(WWConstants.LOGGER::error)
 			.ifPresent((nbt) -> tag.put("termites", nbt));
 		tag.putInt("ticksToNextTermite", this.ticksToNextTermite);
@@ -170,6 +192,7 @@ public class TermiteManager {
 
 	public void load(@NotNull CompoundTag tag) {
 		if (tag.contains("termites", 9)) {
+			this.detach();
 			this.termites.clear();
 			Termite.LIST_CODEC
 				.parse(new Dynamic<>(NbtOps.INSTANCE, tag.getList("termites", 10)))
@@ -231,6 +254,13 @@ public class TermiteManager {
 		}
 
 		public boolean tick(@NotNull Level level, boolean natural, RandomSource random) {
+			return this.tick(level, natural, random, isPosTickable(level, this.pos));
+		}
+
+		/**
+		 * @param tickable whether the chunk this termite is in can currently tick blocks, looked up once per chunk section by the {@link TermiteEngine}.
+		 */
+		public boolean tick(@NotNull Level level, boolean natural, RandomSource random, boolean tickable) {
 			boolean exit = false;
 			++this.idleTicks;
 			if (this.idleTicks > (natural ? MAX_IDLE_TICKS_NATURAL : MAX_IDLE_TICKS) || isTooFar(natural, this.mound, this.pos)) {
@@ -239,7 +269,7 @@ public class TermiteManager {
 			if (!areTermitesSafe(level, this.pos)) {
 				return false;
 			}
-			if (isPosTickable(level, this.pos)) {
+			if (tickable) {
 				BlockState blockState = level.getBlockState(this.pos);
 				Optional<Holder<TermiteBlockBehavior>> optionalBlockBehavior = TermiteBlockBehaviors.getTermiteBlockBehavior(
 					level.registryAccess(),
@@ -324,13 +354,7 @@ public class TermiteManager {
 			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
 			BlockState state = level.getBlockState(mutableBlockPos);
 
-			Optional<Holder<TermiteBlockBehavior>> optionalBlockBehavior = TermiteBlockBehaviors.getTermiteBlockBehavior(
-				level.registryAccess(),
-				state.getBlock(),
-				natural
-			);
-
-			if (optionalBlockBehavior.isPresent()) return mutableBlockPos;
+			if (TermiteBlockBehaviors.hasTermiteBlockBehavior(level.registryAccess(), state.getBlock(), natural)) return mutableBlockPos;
 
 			mutableBlockPos.move(Direction.DOWN);
 			state = level.getBlockState(mutableBlockPos);
@@ -366,13 +390,7 @@ public class TermiteManager {
 		private static boolean checkIfBlockIsEdibleAndFixPos(
 			@NotNull Level level, boolean natural, @NotNull BlockPos.MutableBlockPos mutableBlockPos, @NotNull BlockState state
 		) {
-			Optional<Holder<TermiteBlockBehavior>> optionalBlockBehavior = TermiteBlockBehaviors.getTermiteBlockBehavior(
-				level.registryAccess(),
-				state.getBlock(),
-				natural
-			);
-
-			if (optionalBlockBehavior.isPresent() && isEdibleProperty(state)) {
+			if (TermiteBlockBehaviors.hasTermiteBlockBehavior(level.registryAccess(), state.getBlock(), natural) && isEdibleProperty(state)) {
 				if (state.hasProperty(BlockStateProperties.DOUBLE_BLOCK_HALF) && state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER) {
 					mutableBlockPos.move(Direction.DOWN);
 				}
@@ -393,16 +411,10 @@ public class TermiteManager {
 			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
 			for (Direction direction : Direction.values()) {
 				BlockState state = level.getBlockState(mutableBlockPos.move(direction));
-				Optional<Holder<TermiteBlockBehavior>> optionalBlockBehavior = TermiteBlockBehaviors.getTermiteBlockBehavior(
-					level.registryAccess(),
-					state.getBlock(),
-					natural
-				);
-
 				if (
 					state.isAir()
 					|| (!state.isRedstoneConductor(level, mutableBlockPos) && !state.is(WWBlockTags.BLOCKS_TERMITE))
-					|| (optionalBlockBehavior.isPresent() && isEdibleProperty(state))) {
+					|| (TermiteBlockBehaviors.hasTermiteBlockBehavior(level.registryAccess(), state.getBlock(), natural) && isEdibleProperty(state))) {
 					return true;
 				}
 				mutableBlockPos.move(direction, -1);
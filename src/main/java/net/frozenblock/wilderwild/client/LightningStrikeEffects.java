@@ -0,0 +1,178 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.client;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.math.api.AdvancedMath;
+import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
+import net.frozenblock.wilderwild.tag.WWBlockTags;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.particle.Particle;
+import net.minecraft.client.particle.ParticleEngine;
+import net.minecraft.core.particles.BlockParticleOption;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LightningBolt;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Plays the block and smoke particles of lightning strikes for as long as their bolts are alive.
+ * <p>
+ * Servers only send a strike once, so every following tick of the strike is played from its seed here.
+ */
+@Environment(EnvType.CLIENT)
+public final class LightningStrikeEffects {
+	private static final List<ActiveStrike> ACTIVE_STRIKES = new ArrayList<>();
+
+	private LightningStrikeEffects() {
+		throw new UnsupportedOperationException("LightningStrikeEffects contains only static declarations.");
+	}
+
+	public static void start(WWLightningStrikePacket.@NotNull Strike strike) {
+		BlockState blockState = Block.stateById(strike.blockStateId());
+		if (blockState.isAir()) return;
+		ActiveStrike activeStrike = new ActiveStrike(strike, blockState);
+		activeStrike.spawnParticles();
+		ACTIVE_STRIKES.add(activeStrike);
+	}
+
+	public static void tick(@NotNull ClientLevel level) {
+		if (ACTIVE_STRIKES.isEmpty()) return;
+		Iterator<ActiveStrike> iterator = ACTIVE_STRIKES.iterator();
+		while (iterator.hasNext()) {
+			ActiveStrike activeStrike = iterator.next();
+			Entity entity = level.getEntity(activeStrike.strike.entityId());
+			if (!(entity instanceof LightningBolt) || entity.isRemoved()) {
+				iterator.remove();
+				continue;
+			}
+			activeStrike.tickCount += 1;
+			activeStrike.spawnParticles();
+		}
+	}
+
+	private static void spawnBlockParticles(int tickCount, double x, double y, double z, @NotNull BlockState blockState, @NotNull RandomSource random, @NotNull ParticleEngine particleEngine) {
+		if (blockState.is(WWBlockTags.NO_LIGHTNING_BLOCK_PARTICLES)) {
+			return;
+		}
+		boolean first = tickCount == 0;
+		double calmDownAge = Math.max(1, tickCount - 6D);
+		Vec3 origin = new Vec3(x, y, z);
+		int particles = first ? random.nextInt(25, 40) : random.nextInt(5, 15);
+		double rotAngle = 360D / (double) particles;
+		double angle = random.nextDouble() * 360D;
+		ParticleOptions particleOptions = new BlockParticleOption(ParticleTypes.BLOCK, blockState);
+		if (blockState.is(Blocks.WATER)) {
+			particleOptions = ParticleTypes.SPLASH;
+		} else if (blockState.is(Blocks.LAVA)) {
+			particleOptions = ParticleTypes.LAVA;
+		}
+		double speedMultiplier = first ? 1.5D : 1D;
+		double speedMultiplierY = first ? 1.13D : 1D;
+
+		for (int a = 0; a < particles; a++) {
+			Vec3 offsetPos = AdvancedMath.rotateAboutXZ(origin, 0.4D, angle + (((random.nextDouble() * rotAngle) * 0.35D) * (random.nextBoolean() ? 1D : -1D)));
+			double dirX = (offsetPos.x - origin.x) * ((random.nextFloat() * 0.6D) + 0.4D);
+			double dirZ = (offsetPos.z - origin.z) * ((random.nextFloat() * 0.6D) + 0.4D);
+
+			Particle blockParticle = particleEngine.createParticle(particleOptions, x + dirX, y, z + dirZ, 0D, 0D, 0D);
+			if (blockParticle != null) {
+				blockParticle.xd = ((dirX * 0.8D) / calmDownAge) * speedMultiplier;
+				blockParticle.yd = ((0.4D / calmDownAge) * ((random.nextFloat() * 0.4D) + 0.7D)) * speedMultiplierY;
+				blockParticle.zd = ((dirZ * 0.8D) / calmDownAge) * speedMultiplier;
+			}
+
+			if (random.nextBoolean()) {
+				Particle particle2 = particleEngine.createParticle(ParticleTypes.LARGE_SMOKE, x + dirX * 0.3D, y, z + dirZ * 0.3D, 0D, 0D, 0D);
+				if (particle2 != null) {
+					particle2.xd = ((dirX * 0.2D) / calmDownAge) * speedMultiplier;
+					particle2.yd = ((0.5D / calmDownAge) * ((random.nextFloat() * 0.4D) + 0.7D)) * speedMultiplierY;
+					particle2.zd = ((dirZ * 0.2D) / calmDownAge) * speedMultiplier;
+				}
+			}
+
+			angle += rotAngle;
+		}
+	}
+
+	private static void spawnSmokeParticles(int tickCount, double x, double y, double z, @NotNull BlockState blockState, @NotNull RandomSource random, @NotNull ParticleEngine particleEngine) {
+		if (blockState.is(WWBlockTags.NO_LIGHTNING_SMOKE_PARTICLES)) {
+			return;
+		}
+		boolean first = tickCount == 0;
+		Vec3 origin = new Vec3(x, y, z);
+		int particles = random.nextInt(2, 15);
+		double rotAngle = 360D / (double) particles;
+		double angle = random.nextDouble() * 360D;
+		double speedMultiplier = first ? 1.5D : 1D;
+		double speedMultiplierY = first ? 1.13D : 1D;
+
+		for (int a = 0; a < particles; a++) {
+			Vec3 offsetPos = AdvancedMath.rotateAboutXZ(origin, 0.4D, angle + (((random.nextDouble() * rotAngle) * 0.35D) * (random.nextBoolean() ? 1D : -1D)));
+			double dirX = (offsetPos.x - origin.x) * ((random.nextFloat() * 0.6D) + 0.4D) / (double) tickCount;
+			double dirZ = (offsetPos.z - origin.z) * ((random.nextFloat() * 0.6D) + 0.4D) / (double) tickCount;
+
+			if (random.nextBoolean()) {
+				Particle particle2 = particleEngine.createParticle(ParticleTypes.LARGE_SMOKE, x + dirX * 0.3D, y, z + dirZ * 0.3D, 0D, 0D, 0D);
+				if (particle2 != null) {
+					particle2.xd = ((dirX * 0.2D)) * speedMultiplier;
+					particle2.yd = ((0.5D / (double) tickCount) * ((random.nextFloat() * 0.4D) + 0.7D)) * speedMultiplierY;
+					particle2.zd = ((dirZ * 0.2D)) * speedMultiplier;
+				}
+			}
+
+			angle += rotAngle;
+		}
+	}
+
+	private static final class ActiveStrike {
+		private final WWLightningStrikePacket.Strike strike;
+		private final BlockState blockState;
+		private final RandomSource random;
+		private int tickCount;
+
+		private ActiveStrike(WWLightningStrikePacket.@NotNull Strike strike, @NotNull BlockState blockState) {
+			this.strike = strike;
+			this.blockState = blockState;
+			this.random = RandomSource.create(strike.seed());
+		}
+
+		private void spawnParticles() {
+			ParticleEngine particleEngine = Minecraft.getInstance().particleEngine;
+			if (WWEntityConfig.get().lightning.lightningBlockParticles) {
+				spawnBlockParticles(this.tickCount, this.strike.x(), this.strike.y(), this.strike.z(), this.blockState, this.random, particleEngine);
+			}
+			if (WWEntityConfig.get().lightning.lightningSmokeParticles) {
+				spawnSmokeParticles(this.tickCount, this.strike.x(), this.strike.y(), this.strike.z(), this.blockState, this.random, particleEngine);
+			}
+		}
+	}
+}
@@ -20,11 +20,15 @@ package net.frozenblock.wilderwild.client.renderer.blockentity;
 
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.math.Axis;
+import java.util.Optional;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.wilderwild.block.entity.DisplayLanternBlockEntity;
 import net.frozenblock.wilderwild.client.WWModelLayers;
+import net.frozenblock.wilderwild.client.renderer.entity.FireflyBatchRenderer;
 import net.frozenblock.wilderwild.client.renderer.entity.FireflyRenderer;
+import net.frozenblock.wilderwild.entity.variant.firefly.FireflyColor;
+import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.model.geom.builders.LayerDefinition;
 import net.minecraft.client.model.geom.builders.MeshDefinition;
@@ -33,8 +37,12 @@ import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider.Context;
 import net.minecraft.client.renderer.entity.ItemRenderer;
 import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.util.Mth;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 
 @Environment(EnvType.CLIENT)
@@ -53,31 +61,38 @@ public class DisplayLanternRenderer<T extends DisplayLanternBlockEntity> impleme
 
 	@Override
 	public void render(@NotNull T lantern, float partialTick, @NotNull PoseStack poseStack, @NotNull MultiBufferSource buffer, int light, int overlay) {
+		Level level = lantern.getLevel();
+		if (level == null) return;
+		long gameTime = level.getGameTime();
+		boolean hanging = lantern.getBlockState().getValue(BlockStateProperties.HANGING);
 		ItemStack stack = lantern.getItem();
 		if (!stack.isEmpty()) {
 			poseStack.pushPose();
-			poseStack.translate(0.5F, lantern.clientHanging ? 0.25F : 0.125F, 0.5F);
+			poseStack.translate(0.5F, hanging ? 0.25F : 0.125F, 0.5F);
 			poseStack.scale(0.7F, 0.7F, 0.7F);
-			poseStack.mulPose(Axis.YP.rotation((lantern.age + partialTick) / 20F));
-			this.itemRenderer.renderStatic(stack, ItemDisplayContext.GROUND, light, OverlayTexture.NO_OVERLAY, poseStack, buffer, lantern.getLevel(), 1);
+			poseStack.mulPose(Axis.YP.rotation((float) (((gameTime + partialTick) / 20D) % Mth.TWO_PI)));
+			this.itemRenderer.renderStatic(stack, ItemDisplayContext.GROUND, light, OverlayTexture.NO_OVERLAY, poseStack, buffer, level, 1);
 			poseStack.popPose();
 		} else {
+			Camera camera = Minecraft.getInstance().gameRenderer.getMainCamera();
+			if (!FireflyBatchRenderer.isWithinRenderDistance(camera.getPosition().distanceToSqr(Vec3.atCenterOf(lantern.getBlockPos())))) return;
 			for (DisplayLanternBlockEntity.Occupant occupant : lantern.getFireflies()) {
-				if (occupant.canRender()) {
-					double ageDelta = occupant.age + partialTick;
+				Optional<FireflyColor> color = occupant.getColorForRendering(level);
+				if (color.isPresent()) {
+					double animationAge = occupant.getAnimationAge(gameTime, partialTick);
 					FireflyRenderer.renderFirefly(
 						poseStack,
 						buffer,
 						light,
 						overlay,
-						occupant.age,
+						(int) (gameTime + occupant.age),
 						partialTick,
-						occupant.getColorForRendering(),
+						color.get(),
 						1F,
 						(float) occupant.pos.x,
-						(lantern.clientHanging ? 0.38F : 0.225F) + (float) Math.sin(ageDelta * 0.03F) * 0.15F,
+						(hanging ? 0.38F : 0.225F) + (float) DisplayLanternBlockEntity.Occupant.getYOffset(animationAge),
 						(float) occupant.pos.z,
-						Minecraft.getInstance().gameRenderer.getMainCamera().rotation()
+						camera.rotation()
 					);
 				}
 			}
@@ -54,7 +54,7 @@ public class HangingTendrilRenderer<T extends HangingTendrilBlockEntity> extends
 	@Override
 	@NotNull
 	public ResourceLocation getTexture(@NotNull T entity) {
-		return entity.texture;
+		return entity.getTexture(entity.getLevel() != null ? entity.getLevel().getGameTime() : 0L);
 	}
 
 	@Override
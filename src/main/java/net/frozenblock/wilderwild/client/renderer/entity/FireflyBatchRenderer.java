@@ -0,0 +1,195 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.client.renderer.entity;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import java.util.Arrays;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+/**
+ * Collects every firefly quad drawn while the level is rendering and writes them once entities and block entities are done.
+ * <p>
+ * Quads are grouped by color texture, so the base layer is written through a single consumer
+ * and each glow texture is only requested from the buffer source once per frame instead of once per firefly.
+ */
+@Environment(EnvType.CLIENT)
+public final class FireflyBatchRenderer {
+	private static final float[] CORNER_X = {-0.5F, 0.5F, 0.5F, -0.5F};
+	private static final float[] CORNER_Y = {-0.5F, -0.5F, 0.5F, 0.5F};
+	private static final float[] CORNER_U = {0F, 1F, 1F, 0F};
+	private static final float[] CORNER_V = {1F, 1F, 0F, 0F};
+
+	private static final Object2ObjectLinkedOpenHashMap<ResourceLocation, Batch> BATCHES = new Object2ObjectLinkedOpenHashMap<>();
+	private static final Vector3f SCRATCH = new Vector3f();
+	@Nullable
+	private static MultiBufferSource collectingBuffer;
+
+	private FireflyBatchRenderer() {
+		throw new UnsupportedOperationException("FireflyBatchRenderer contains only static declarations.");
+	}
+
+	/**
+	 * Starts collecting fireflies for the current frame.
+	 */
+	public static void beginFrame() {
+		clear();
+		collectingBuffer = Minecraft.getInstance().renderBuffers().bufferSource();
+	}
+
+	/**
+	 * Writes every collected firefly to the buffer source they were collected for and stops collecting.
+	 */
+	public static void endFrame() {
+		MultiBufferSource buffer = collectingBuffer;
+		collectingBuffer = null;
+		if (buffer == null) return;
+
+		boolean hasFireflies = false;
+		for (Batch batch : BATCHES.values()) {
+			if (batch.size > 0) {
+				hasFireflies = true;
+				break;
+			}
+		}
+		if (!hasFireflies) return;
+
+		VertexConsumer baseConsumer = buffer.getBuffer(FireflyRenderer.LAYER);
+		for (Batch batch : BATCHES.values()) {
+			for (int i = 0; i < batch.size; i++) {
+				batch.writeQuad(baseConsumer, i, 1F);
+			}
+		}
+
+		for (Batch batch : BATCHES.values()) {
+			if (batch.size <= 0) continue;
+			VertexConsumer colorConsumer = buffer.getBuffer(batch.renderType);
+			for (int i = 0; i < batch.size; i++) {
+				batch.writeQuad(colorConsumer, i, batch.glow[i]);
+			}
+		}
+		clear();
+	}
+
+	/**
+	 * Discards every collected firefly and stops collecting.
+	 */
+	public static void clear() {
+		collectingBuffer = null;
+		for (Batch batch : BATCHES.values()) {
+			batch.size = 0;
+		}
+	}
+
+	/**
+	 * Returns whether fireflies drawn into the given buffer source are currently being collected.
+	 * <p>
+	 * Anything drawn into another buffer source, like the outline buffer of glowing entities, is drawn immediately.
+	 */
+	public static boolean isCollecting(@NotNull MultiBufferSource buffer) {
+		return collectingBuffer == buffer;
+	}
+
+	public static boolean isWithinRenderDistance(double distanceSquared) {
+		double cutoff = WWEntityConfig.Client.FIREFLY_RENDER_DISTANCE * Entity.getViewScale();
+		return distanceSquared < cutoff * cutoff;
+	}
+
+	static void add(@NotNull PoseStack.Pose pose, int packedLight, int overlay, float glow, @NotNull ResourceLocation texture) {
+		Batch batch = BATCHES.get(texture);
+		if (batch == null) {
+			batch = new Batch(RenderType.entityTranslucentEmissive(texture));
+			BATCHES.put(texture, batch);
+		}
+		batch.add(pose, packedLight, overlay, glow);
+	}
+
+	private static final class Batch {
+		private static final int INITIAL_CAPACITY = 64;
+
+		private final RenderType renderType;
+		private float[] vertices = new float[INITIAL_CAPACITY * 12];
+		private float[] normals = new float[INITIAL_CAPACITY * 3];
+		private int[] light = new int[INITIAL_CAPACITY];
+		private int[] overlay = new int[INITIAL_CAPACITY];
+		private float[] glow = new float[INITIAL_CAPACITY];
+		private int size;
+
+		private Batch(RenderType renderType) {
+			this.renderType = renderType;
+		}
+
+		private void add(@NotNull PoseStack.Pose pose, int packedLight, int overlay, float glow) {
+			if (this.size >= this.light.length) {
+				int capacity = this.light.length * 2;
+				this.vertices = Arrays.copyOf(this.vertices, capacity * 12);
+				this.normals = Arrays.copyOf(this.normals, capacity * 3);
+				this.light = Arrays.copyOf(this.light, capacity);
+				this.overlay = Arrays.copyOf(this.overlay, capacity);
+				this.glow = Arrays.copyOf(this.glow, capacity);
+			}
+
+			int index = this.size;
+			Matrix4f matrix = pose.pose();
+			for (int corner = 0; corner < 4; corner++) {
+				matrix.transformPosition(CORNER_X[corner], CORNER_Y[corner], 0F, SCRATCH);
+				int vertexIndex = (index * 12) + (corner * 3);
+				this.vertices[vertexIndex] = SCRATCH.x;
+				this.vertices[vertexIndex + 1] = SCRATCH.y;
+				this.vertices[vertexIndex + 2] = SCRATCH.z;
+			}
+			pose.normal().transform(0F, 1F, 0F, SCRATCH).normalize();
+			this.normals[index * 3] = SCRATCH.x;
+			this.normals[index * 3 + 1] = SCRATCH.y;
+			this.normals[index * 3 + 2] = SCRATCH.z;
+			this.light[index] = packedLight;
+			this.overlay[index] = overlay;
+			this.glow[index] = glow;
+			this.size += 1;
+		}
+
+		private void writeQuad(@NotNull VertexConsumer consumer, int index, float color) {
+			float normalX = this.normals[index * 3];
+			float normalY = this.normals[index * 3 + 1];
+			float normalZ = this.normals[index * 3 + 2];
+			for (int corner = 0; corner < 4; corner++) {
+				int vertexIndex = (index * 12) + (corner * 3);
+				consumer
+					.addVertex(this.vertices[vertexIndex], this.vertices[vertexIndex + 1], this.vertices[vertexIndex + 2])
+					.setColor(color, color, color, color)
+					.setUv(CORNER_U[corner], CORNER_V[corner])
+					.setOverlay(this.overlay[index])
+					.setLight(this.light[index])
+					.setNormal(normalX, normalY, normalZ);
+			}
+		}
+	}
+}
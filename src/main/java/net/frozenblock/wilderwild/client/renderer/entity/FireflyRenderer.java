@@ -36,7 +36,7 @@ import org.joml.Quaternionf;
 
 public class FireflyRenderer extends EntityRenderer<Firefly> {
 	private static final ResourceLocation TEXTURE = WWConstants.id("textures/entity/firefly/firefly_off.png");
-	private static final RenderType LAYER = RenderType.entityTranslucent(TEXTURE);
+	static final RenderType LAYER = RenderType.entityTranslucent(TEXTURE);
 
 	private static final float Y_OFFSET = 0.155F;
 	private static final Quaternionf QUAT_180 = Axis.YP.rotationDegrees(180F);
@@ -67,6 +67,14 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 		poseStack.mulPose(QUAT_180);
 
 		PoseStack.Pose pose = poseStack.last();
+		float calcColor = (((age + tickDelta) * Mth.PI) * -4F) / 255F;
+
+		if (FireflyBatchRenderer.isCollecting(buffer)) {
+			FireflyBatchRenderer.add(pose, packedLight, overlay, calcColor, color.texture());
+			poseStack.popPose();
+			return;
+		}
+
 		VertexConsumer vertexConsumer = buffer.getBuffer(LAYER);
 
 		vertexConsumer
@@ -101,8 +109,6 @@ public class FireflyRenderer extends EntityRenderer<Firefly> {
 		RenderType colorRenderType = RenderType.entityTranslucentEmissive(color.texture());
 		vertexConsumer = buffer.getBuffer(colorRenderType);
 
-		float calcColor = (((age + tickDelta) * Mth.PI) * -4F) / 255F;
-
 		vertexConsumer
 			.addVertex(pose, -0.5F, -0.5F, 0F)
 			.setColor(calcColor, calcColor, calcColor, calcColor)
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.frozenblock.wilderwild.entity.impl.JellyfishPopulation;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.DimensionArgument;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import org.jetbrains.annotations.NotNull;
+
+public final class JellyfishCountCommand {
+	public static void register(@NotNull CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher.register(
+			Commands.literal("jellyfishcount")
+				.requires(source -> source.hasPermission(2))
+				.executes(
+					context -> countJellyfish(
+						context.getSource(),
+						context.getSource().getLevel()
+					)
+				).then(
+					Commands.argument("dimension", DimensionArgument.dimension())
+						.executes(
+							context -> countJellyfish(
+								context.getSource(),
+								DimensionArgument.getDimension(context, "dimension")
+							)
+						)
+				)
+		);
+	}
+
+	private static int countJellyfish(@NotNull CommandSourceStack source, @NotNull ServerLevel level) {
+		JellyfishPopulation population = JellyfishPopulation.get(level);
+		int nonPearlescent = population.getCount(false);
+		int pearlescent = population.getCount(true);
+		source.sendSuccess(
+			() -> Component.translatable(
+				"commands.jellyfishcount.success",
+				level.dimension().location().toString(),
+				nonPearlescent,
+				pearlescent
+			),
+			false
+		);
+		return nonPearlescent + pearlescent;
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.command;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import net.frozenblock.wilderwild.config.WWBlockConfig;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.SculkSpreader;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Spreads Sculk started by {@link SpreadSculkCommand} over as many ticks as needed.
+ * <p>
+ * Every running job shares a per-tick time budget, so large charges no longer freeze the server while they spread.
+ */
+public final class SculkSpreadJob {
+	private static final List<SculkSpreadJob> JOBS = new ArrayList<>();
+	private static final int PROGRESS_INTERVAL_IN_TICKS = 100;
+
+	private final CommandSourceStack source;
+	private final ServerLevel level;
+	private final BlockPos pos;
+	private final boolean worldGen;
+	private final int charge;
+	private final SculkSpreader sculkSpreader;
+	private int ticks;
+
+	private SculkSpreadJob(@NotNull CommandSourceStack source, @NotNull BlockPos pos, boolean worldGen, int charge) {
+		this.source = source;
+		this.level = source.getLevel();
+		this.pos = pos;
+		this.worldGen = worldGen;
+		this.charge = charge;
+		this.sculkSpreader = worldGen ? SculkSpreader.createWorldGenSpreader() : SculkSpreader.createLevelSpreader();
+		this.sculkSpreader.addCursors(pos, charge);
+	}
+
+	public static void start(@NotNull CommandSourceStack source, @NotNull BlockPos pos, boolean worldGen, int charge) {
+		JOBS.add(new SculkSpreadJob(source, pos, worldGen, charge));
+	}
+
+	/**
+	 * Cancels every running job.
+	 *
+	 * @return the number of jobs cancelled.
+	 */
+	public static int cancelAll() {
+		int cancelled = JOBS.size();
+		JOBS.clear();
+		return cancelled;
+	}
+
+	public static void tickJobs(@NotNull MinecraftServer server) {
+		if (JOBS.isEmpty()) return;
+
+		long deadline = System.nanoTime() + (Math.max(1, WWBlockConfig.get().sculk.sculkSpreadCommandBudget) * 1_000_000L);
+		do {
+			Iterator<SculkSpreadJob> iterator = JOBS.iterator();
+			while (iterator.hasNext()) {
+				SculkSpreadJob job = iterator.next();
+				if (job.step()) {
+					iterator.remove();
+					job.sendSuccess();
+				}
+			}
+		} while (!JOBS.isEmpty() && System.nanoTime() < deadline);
+
+		for (SculkSpreadJob job : JOBS) {
+			job.ticks += 1;
+			if (job.ticks % PROGRESS_INTERVAL_IN_TICKS == 0) job.sendProgress();
+		}
+	}
+
+	/**
+	 * Updates every cursor of this job once.
+	 *
+	 * @return whether this job has finished spreading.
+	 */
+	private boolean step() {
+		if (this.sculkSpreader.getCursors().isEmpty()) return true;
+		this.sculkSpreader.updateCursors(this.level, this.pos, this.level.getRandom(), true);
+		return this.sculkSpreader.getCursors().isEmpty();
+	}
+
+	private void sendProgress() {
+		int remainingCharge = 0;
+		for (SculkSpreader.ChargeCursor cursor : this.sculkSpreader.getCursors()) {
+			remainingCharge += cursor.getCharge();
+		}
+		int finalRemainingCharge = remainingCharge;
+		this.source.sendSuccess(
+			() -> Component.translatable(
+				"commands.sculkspread.progress",
+				this.pos.getX(),
+				this.pos.getY(),
+				this.pos.getZ(),
+				finalRemainingCharge,
+				this.charge
+			),
+			false
+		);
+	}
+
+	private void sendSuccess() {
+		this.source.sendSuccess(
+			() -> Component.translatable(
+				this.worldGen ? "commands.sculkspread.worldgen.success" : "commands.sculkspread.success",
+				this.pos.getX(),
+				this.pos.getY(),
+				this.pos.getZ(),
+				this.charge
+			),
+			true
+		);
+	}
+}
@@ -26,8 +26,6 @@ import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.BlockPosArgument;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
-import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.block.SculkSpreader;
 import org.jetbrains.annotations.NotNull;
 
 public final class SpreadSculkCommand {
@@ -42,6 +40,9 @@ public final class SpreadSculkCommand {
 						false,
 						10
 					)
+				).then(
+					Commands.literal("cancel")
+						.executes(context -> cancel(context.getSource()))
 				).then(
 					Commands.argument("position", BlockPosArgument.blockPos())
 						.executes(
@@ -77,22 +78,27 @@ public final class SpreadSculkCommand {
 	}
 
 	private static int spreadSculk(@NotNull CommandSourceStack source, BlockPos pos, boolean worldGen, int charge) {
-		SculkSpreader sculkSpreader = worldGen ? SculkSpreader.createWorldGenSpreader() : SculkSpreader.createLevelSpreader();
-		sculkSpreader.addCursors(pos, charge);
-		ServerLevel level = source.getLevel();
-		while (!sculkSpreader.getCursors().isEmpty()) {
-			sculkSpreader.updateCursors(level, pos, level.getRandom(), true);
-		}
+		SculkSpreadJob.start(source, pos, worldGen, charge);
 		source.sendSuccess(
 			() -> Component.translatable(
-				worldGen ? "commands.sculkspread.worldgen.success" : "commands.sculkspread.success",
+				"commands.sculkspread.started",
 				pos.getX(),
 				pos.getY(),
 				pos.getZ(),
 				charge
 			),
-			true
+			false
 		);
 		return 1;
 	}
+
+	private static int cancel(@NotNull CommandSourceStack source) {
+		int cancelled = SculkSpreadJob.cancelAll();
+		if (cancelled == 0) {
+			source.sendFailure(Component.translatable("commands.sculkspread.cancel.failed"));
+			return 0;
+		}
+		source.sendSuccess(() -> Component.translatable("commands.sculkspread.cancel.success", cancelled), true);
+		return cancelled;
+	}
 }
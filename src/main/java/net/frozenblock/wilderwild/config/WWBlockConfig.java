@@ -60,6 +60,7 @@ public final class WWBlockConfig {
 				HANGING_TENDRIL_GENERATION = config.sculk.tendrilGeneration;
 				OSSEOUS_SCULK_GENERATION = config.sculk.osseousSculkGeneration;
 				SCULK_BUILDING_BLOCKS_GENERATION = config.sculk.sculkBuildingBlocksGeneration;
+				WWRuntimeFlags.onBlockConfigSync(config);
 				if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
 					Client.MESOGLEA_FLUID = config.mesoglea.mesogleaFluid;
 					Client.POLLEN_ENABLED = config.pollenParticles;
@@ -81,15 +82,15 @@ public final class WWBlockConfig {
 	public static volatile boolean SCULK_BUILDING_BLOCKS_GENERATION = true;
 
 	public static boolean canSnowlog() {
-		return SNOWLOGGING && !FrozenBools.IS_DATAGEN;
+		return WWRuntimeFlags.get().snowlogging() && !FrozenBools.IS_DATAGEN;
 	}
 
 	public static boolean canSnowlogWalls() {
-		return canSnowlog() && SNOWLOG_WALLS;
+		return WWRuntimeFlags.get().snowlogWalls() && !FrozenBools.IS_DATAGEN;
 	}
 
 	public static boolean canSnowlogNaturally() {
-		return canSnowlog() && NATURAL_SNOWLOGGING;
+		return WWRuntimeFlags.get().naturalSnowlogging() && !FrozenBools.IS_DATAGEN;
 	}
 
 	public static final class Client {
@@ -291,6 +292,9 @@ public final class WWBlockConfig {
 
 		@EntrySyncData("sculkBuildingBlocksGeneration")
 		public boolean sculkBuildingBlocksGeneration = true;
+
+		@EntrySyncData("sculkSpreadCommandBudget")
+		public int sculkSpreadCommandBudget = 10;
 	}
 
 	public static class FlowerConfig {
@@ -53,6 +53,7 @@ public final class WWEntityConfig {
 				var config = this.config();
 				WARDEN_SWIMS = config.warden.wardenSwims;
 				FIREFLY_SWARMS = config.firefly.fireflySwarm;
+				WWRuntimeFlags.onEntityConfigSync(config);
 				if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
 					Client.TUMBLEWEED_ROTATES_TO_LOOK_DIRECTION = config.tumbleweed.tumbleweedRotatesToLookDirection;
 					Client.ALLAY_KEYFRAME_DANCE = config.allay.keyframeAllayDance;
@@ -63,6 +64,7 @@ public final class WWEntityConfig {
 					Client.WARDEN_IMPROVED_SNIFF_ANIMATION = config.warden.wardenBedrockSniff;
 					Client.WARDEN_DEATH_ANIMATION = config.warden.wardenDeathAnimation;
 					Client.JELLYFISH_PLANE_TENTACLES = config.jellyfish.planeTentacles;
+					Client.FIREFLY_RENDER_DISTANCE = config.firefly.fireflyRenderDistance;
 				}
 			}
 		}
@@ -81,6 +83,7 @@ public final class WWEntityConfig {
 		public static volatile boolean WARDEN_IMPROVED_SNIFF_ANIMATION = true;
 		public static volatile boolean WARDEN_DEATH_ANIMATION = true;
 		public static volatile boolean JELLYFISH_PLANE_TENTACLES = true;
+		public static volatile int FIREFLY_RENDER_DISTANCE = 96;
 	}
 
 	@CollapsibleObject
@@ -171,6 +174,9 @@ public final class WWEntityConfig {
 
 		@EntrySyncData("fireflySwarm")
 		public boolean fireflySwarm = true;
+
+		@EntrySyncData(value = "fireflyRenderDistance", behavior = SyncBehavior.UNSYNCABLE)
+		public int fireflyRenderDistance = 96;
 	}
 
 	public static class ButterflyConfig {
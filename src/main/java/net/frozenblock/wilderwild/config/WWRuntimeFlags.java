@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.config;
+
+import net.fabricmc.loader.api.FabricLoader;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An immutable snapshot of the config options read on hot paths, such as block shape queries and entity ticks.
+ * <p>
+ * A new snapshot is built whenever {@link WWBlockConfig} or {@link WWEntityConfig} syncs,
+ * so readers only need to read a single volatile reference instead of looking up each option.
+ */
+public record WWRuntimeFlags(
+	boolean snowlogging,
+	boolean snowlogWalls,
+	boolean naturalSnowlogging,
+	double stoneChestTimer,
+	boolean fireflySwarms,
+	boolean wardenSwims,
+	boolean spawnTumbleweed,
+	boolean leashedTumbleweed,
+	boolean tumbleweedDestroysCrops
+) {
+	/**
+	 * Snowlogging is always disabled while Antique Atlas is loaded, which can only change on boot.
+	 */
+	public static final boolean SNOWLOGGING_AVAILABLE = !FabricLoader.getInstance().isModLoaded("antique-atlas");
+
+	private static volatile WWRuntimeFlags current = new WWRuntimeFlags(
+		SNOWLOGGING_AVAILABLE,
+		false,
+		SNOWLOGGING_AVAILABLE,
+		1D,
+		true,
+		true,
+		true,
+		false,
+		true
+	);
+
+	@NotNull
+	public static WWRuntimeFlags get() {
+		return current;
+	}
+
+	static synchronized void onBlockConfigSync(@NotNull WWBlockConfig config) {
+		WWRuntimeFlags flags = current;
+		boolean snowlogging = SNOWLOGGING_AVAILABLE && config.snowlogging.snowlogging;
+		current = new WWRuntimeFlags(
+			snowlogging,
+			snowlogging && config.snowlogging.snowlogWalls,
+			snowlogging && config.snowlogging.naturalSnowlogging,
+			config.stoneChest.getStoneChestTimer(),
+			flags.fireflySwarms,
+			flags.wardenSwims,
+			flags.spawnTumbleweed,
+			flags.leashedTumbleweed,
+			flags.tumbleweedDestroysCrops
+		);
+	}
+
+	static synchronized void onEntityConfigSync(@NotNull WWEntityConfig config) {
+		WWRuntimeFlags flags = current;
+		current = new WWRuntimeFlags(
+			flags.snowlogging,
+			flags.snowlogWalls,
+			flags.naturalSnowlogging,
+			flags.stoneChestTimer,
+			config.firefly.fireflySwarm,
+			config.warden.wardenSwims,
+			config.tumbleweed.spawnTumbleweed,
+			config.tumbleweed.leashedTumbleweed,
+			config.tumbleweed.tumbleweedDestroysCrops
+		);
+	}
+}
@@ -240,13 +240,25 @@ public final class WWBlockConfigGui {
 			configInstance
 		);
 
+		var sculkSpreadCommandBudget = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(text("sculk_spread_command_budget"), modifiedSculk.sculkSpreadCommandBudget, 1, 50)
+				.setDefaultValue(defaultConfig.sculk.sculkSpreadCommandBudget)
+				.setSaveConsumer(newValue -> sculk.sculkSpreadCommandBudget = newValue)
+				.setTooltip(tooltip("sculk_spread_command_budget"))
+				.build(),
+			sculk.getClass(),
+			"sculkSpreadCommandBudget",
+			configInstance
+		);
+
 		var sculkCategory = FrozenClothConfig.createSubCategory(entryBuilder, category, text("sculk"),
 			false,
 			tooltip("sculk"),
 			shriekerGargling, shriekerOutline,
 			tendrilsCarryEvents, billboardTendrils, tendrilGeneration,
 			osseousSculkGeneration,
-			sculkBuildingBlocksGeneration
+			sculkBuildingBlocksGeneration,
+			sculkSpreadCommandBudget
 		);
 
 		var mesogleaFluid = FrozenClothConfig.syncedEntry(
@@ -200,10 +200,21 @@ public final class WWEntityConfigGui {
 			configInstance
 		);
 
+		var fireflyRenderDistance = FrozenClothConfig.syncedEntry(
+			entryBuilder.startIntSlider(text("firefly_render_distance"), modifiedFirefly.fireflyRenderDistance, 16, 256)
+				.setDefaultValue(defaultConfig.firefly.fireflyRenderDistance)
+				.setSaveConsumer(newValue -> firefly.fireflyRenderDistance = newValue)
+				.setTooltip(tooltip("firefly_render_distance"))
+				.build(),
+			firefly.getClass(),
+			"fireflyRenderDistance",
+			configInstance
+		);
+
 		var fireflyCategory = FrozenClothConfig.createSubCategory(entryBuilder, category, text("firefly"),
 			false,
 			tooltip("firefly"),
-			spawnFireflies, fireflySpawnCap, fireflySwarm
+			spawnFireflies, fireflySpawnCap, fireflySwarm, fireflyRenderDistance
 		);
 
 		var spawnButterflies = FrozenClothConfig.syncedEntry(
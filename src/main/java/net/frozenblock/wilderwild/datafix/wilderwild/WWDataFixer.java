@@ -24,9 +24,11 @@ import java.util.Map;
 import net.fabricmc.loader.api.ModContainer;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.datafix.wilderwild.datafixers.DrySandStateFix;
+import net.frozenblock.wilderwild.datafix.wilderwild.datafixers.FallingLeavesEntityRemovalFix;
 import net.frozenblock.wilderwild.datafix.wilderwild.datafixers.FireflyBottleComponentizationFix;
 import net.frozenblock.wilderwild.datafix.wilderwild.datafixers.NematocystStateFix;
 import net.frozenblock.wilderwild.datafix.wilderwild.datafixers.OsseousSculkStateFix;
+import net.frozenblock.wilderwild.datafix.wilderwild.datafixers.ScorchedBlockEntityRemovalFix;
 import net.frozenblock.wilderwild.datafix.wilderwild.datafixers.ScorchedSandStateFix2;
 import net.minecraft.util.datafix.schemas.NamespacedSchema;
 import org.jetbrains.annotations.NotNull;
@@ -35,7 +37,7 @@ import org.quiltmc.qsl.frozenblock.misc.datafixerupper.api.QuiltDataFixes;
 import org.quiltmc.qsl.frozenblock.misc.datafixerupper.api.SimpleFixes;
 
 public final class WWDataFixer {
-	public static final int DATA_VERSION = 26;
+	public static final int DATA_VERSION = 28;
 
 	private WWDataFixer() {
 		throw new UnsupportedOperationException("WWDataFixer contains only static declarations.");
@@ -203,6 +205,12 @@ public final class WWDataFixer {
 			schemaV26
 		);
 
+		Schema schemaV27 = builder.addSchema(27, NamespacedSchema::new);
+		builder.addFixer(new ScorchedBlockEntityRemovalFix(schemaV27));
+
+		Schema schemaV28 = builder.addSchema(28, NamespacedSchema::new);
+		builder.addFixer(new FallingLeavesEntityRemovalFix(schemaV28));
+
 		QuiltDataFixes.buildAndRegisterFixer(mod, builder);
 		WWConstants.log("DataFixes for Wilder Wild have been applied", true);
 	}
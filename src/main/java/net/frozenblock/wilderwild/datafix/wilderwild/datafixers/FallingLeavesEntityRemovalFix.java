@@ -0,0 +1,55 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.datafix.wilderwild.datafixers;
+
+import com.mojang.datafixers.DataFix;
+import com.mojang.datafixers.TypeRewriteRule;
+import com.mojang.datafixers.schemas.Schema;
+import com.mojang.serialization.Dynamic;
+import net.frozenblock.wilderwild.WWConstants;
+import net.minecraft.util.datafix.fixes.References;
+import org.jetbrains.annotations.NotNull;
+
+public final class FallingLeavesEntityRemovalFix extends DataFix {
+	private static final String ENTITIES = "Entities";
+	private static final String FALLING_LEAVES_ENTITY = WWConstants.string("falling_leaves");
+
+	public FallingLeavesEntityRemovalFix(Schema outputSchema) {
+		super(outputSchema, false);
+	}
+
+	private static Dynamic<?> fix(@NotNull Dynamic<?> dynamic) {
+		return dynamic.update(
+			ENTITIES,
+			entities -> entities.createList(
+				entities.asStream().filter(entity -> !entity.get("id").asString("").equals(FALLING_LEAVES_ENTITY))
+			)
+		);
+	}
+
+	@Override
+	protected TypeRewriteRule makeRule() {
+		return this.writeFixAndRead(
+			"Remove legacy Falling Leaves entities",
+			this.getInputSchema().getType(References.ENTITY_CHUNK),
+			this.getOutputSchema().getType(References.ENTITY_CHUNK),
+			FallingLeavesEntityRemovalFix::fix
+		);
+	}
+}
@@ -33,6 +33,7 @@ import net.frozenblock.wilderwild.entity.ai.crab.CrabAi;
 import net.frozenblock.wilderwild.entity.ai.crab.CrabJumpControl;
 import net.frozenblock.wilderwild.entity.ai.crab.CrabMoveControl;
 import net.frozenblock.wilderwild.entity.ai.crab.CrabNavigation;
+import net.frozenblock.wilderwild.entity.impl.CrabVibrationDispatcher;
 import net.frozenblock.wilderwild.entity.variant.crab.CrabVariant;
 import net.frozenblock.wilderwild.entity.variant.crab.CrabVariants;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
@@ -144,9 +145,10 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	public final AnimationState diggingAnimationState = new AnimationState();
 	public final AnimationState emergingAnimationState = new AnimationState();
 	public final AnimationState hidingAnimationState = new AnimationState();
-	private final DynamicGameEventListener<VibrationSystem.Listener> dynamicGameEventListener;
+	private final VibrationSystem.Listener vibrationListener;
 	private final VibrationSystem.User vibrationUser;
 	private VibrationSystem.Data vibrationData;
+	private boolean vibrationPending;
 	public Vec3 prevMovement;
 	public boolean cancelMovementToDescend;
 
@@ -159,7 +161,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 		super(entityType, level);
 		this.vibrationUser = new Crab.VibrationUser();
 		this.vibrationData = new VibrationSystem.Data();
-		this.dynamicGameEventListener = new DynamicGameEventListener<>(new VibrationSystem.Listener(this));
+		this.vibrationListener = new VibrationSystem.Listener(this);
 		this.jumpControl = new CrabJumpControl(this);
 		this.prevMovement = Vec3.ZERO;
 		this.setPathfindingMalus(PathType.LAVA, -1F);
@@ -301,8 +303,10 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	@Override
 	public void tick() {
 		boolean isClient = this.level().isClientSide;
-		if (this.level() instanceof ServerLevel serverLevel) {
+		if (this.vibrationPending && this.level() instanceof ServerLevel serverLevel) {
 			VibrationSystem.Ticker.tick(serverLevel, this.vibrationData, this.vibrationUser);
+			this.vibrationPending = this.vibrationData.getCurrentVibration() != null
+				|| this.vibrationData.getSelectionStrategy().chosenCandidate(Long.MAX_VALUE).isPresent();
 		}
 		super.tick();
 		if (!isClient) {
@@ -877,6 +881,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 				.parse(new Dynamic<>(registryOps, compound.getCompound("listener")))
 				.resultOrPartial(string -> WWConstants.LOGGER.error("Failed to decode vibration listener for Warden: '{}'", string))
 				.ifPresent(data -> this.vibrationData = data);
+			this.vibrationPending = true;
 		}
 	}
 
@@ -892,10 +897,22 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 		return this.vibrationUser;
 	}
 
+	@NotNull
+	public VibrationSystem.Listener getVibrationListener() {
+		return this.vibrationListener;
+	}
+
+	/**
+	 * Called once a vibration has been scheduled, so the vibration ticker runs until it has been received.
+	 */
+	public void markVibrationPending() {
+		this.vibrationPending = true;
+	}
+
 	@Override
 	public void updateDynamicGameEventListener(@NotNull BiConsumer<DynamicGameEventListener<?>, ServerLevel> listenerConsumer) {
 		if (this.level() instanceof ServerLevel serverLevel) {
-			listenerConsumer.accept(this.dynamicGameEventListener, serverLevel);
+			CrabVibrationDispatcher.get(serverLevel).update(serverLevel, this);
 		}
 	}
 
@@ -948,7 +965,7 @@ public class Crab extends Animal implements VibrationSystem, Bucketable {
 	}
 
 	public class VibrationUser implements VibrationSystem.User {
-		private static final int GAME_EVENT_LISTENER_RANGE = 8;
+		public static final int GAME_EVENT_LISTENER_RANGE = 8;
 		private final PositionSource positionSource;
 
 		private VibrationUser() {
@@ -75,19 +75,23 @@ import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.pathfinder.PathType;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class Firefly extends PathfinderMob implements FlyingAnimal, Bottleable {
 	public static final int RANDOM_FLICKER_AGE_MAX = 19;
+	public static final float MAX_ANIM_SCALE = 1.5F;
+	public static final float ANIM_SCALE_INCREMENT = 0.025F;
 	private static final EntityDataAccessor<Boolean> FROM_BOTTLE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.BOOLEAN);
-	private static final EntityDataAccessor<Integer> AGE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.INT);
-	private static final EntityDataAccessor<Float> ANIM_SCALE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.FLOAT);
-	private static final EntityDataAccessor<Float> PREV_ANIM_SCALE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.FLOAT);
+	// Only changes when the scale animation is restarted, clients simulate the rest of the animation themselves.
+	private static final EntityDataAccessor<Float> ANIM_SCALE_START = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<String> COLOR = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.STRING);
 
 	private Optional<FireflyColor> fireflyColor = Optional.empty();
+	private float animScale = MAX_ANIM_SCALE;
+	private float prevAnimScale = MAX_ANIM_SCALE;
 
 	public Firefly(@NotNull EntityType<? extends Firefly> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -97,8 +101,6 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, Bottleable {
 		this.setPathfindingMalus(PathType.WATER_BORDER, 16F);
 		this.setPathfindingMalus(PathType.UNPASSABLE_RAIL, 0F);
 		this.moveControl = new FlyingMoveControl(this, 20, true);
-		this.setFlickerAge(this.random.nextIntBetweenInclusive(0, RANDOM_FLICKER_AGE_MAX));
-		this.setAnimScale(1.5F);
 	}
 
 	@Override
@@ -165,6 +167,10 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, Bottleable {
 		super.onSyncedDataUpdated(entityDataAccessor);
 		if (COLOR.equals(entityDataAccessor)) {
 			this.fireflyColor = Optional.of(this.getColorByLocation());
+		} else if (ANIM_SCALE_START.equals(entityDataAccessor) && this.level().isClientSide) {
+			float animScaleStart = this.entityData.get(ANIM_SCALE_START);
+			this.animScale = animScaleStart;
+			this.prevAnimScale = animScaleStart;
 		}
 	}
 
@@ -178,9 +184,7 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, Bottleable {
 	protected void defineSynchedData(SynchedEntityData.Builder builder) {
 		super.defineSynchedData(builder);
 		builder.define(FROM_BOTTLE, false);
-		builder.define(AGE, 0);
-		builder.define(ANIM_SCALE, 1.5F);
-		builder.define(PREV_ANIM_SCALE, 1.5F);
+		builder.define(ANIM_SCALE_START, MAX_ANIM_SCALE);
 		builder.define(COLOR, FireflyColors.DEFAULT.location().toString());
 	}
 
@@ -196,8 +200,16 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, Bottleable {
 	}
 
 	@Override
-	public boolean shouldRender(double x, double y, double z) {
-		return true;
+	public boolean shouldRenderAtSqrDistance(double distance) {
+		double cutoff = WWEntityConfig.Client.FIREFLY_RENDER_DISTANCE * getViewScale();
+		return distance < cutoff * cutoff;
+	}
+
+	@Override
+	@NotNull
+	public AABB getBoundingBoxForCulling() {
+		// The glow quad is larger than the hitbox, especially while the spawn animation scales it up.
+		return this.getBoundingBox().inflate(1D);
 	}
 
 	@Override
@@ -274,28 +286,37 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, Bottleable {
 		return this.getBrain().hasMemoryValue(MemoryModuleType.HOME);
 	}
 
+	/**
+	 * The flicker age is only used for rendering, so it's derived from the Firefly's UUID and tick count instead of being synced or saved.
+	 * <p>
+	 * A client's tick count starts when it begins tracking the Firefly, so the flicker may be out of phase between players.
+	 */
 	public int getFlickerAge() {
-		return this.entityData.get(AGE);
-	}
-
-	public void setFlickerAge(int value) {
-		this.entityData.set(AGE, value);
+		return Math.floorMod(this.getUUID().hashCode(), RANDOM_FLICKER_AGE_MAX + 1) + this.tickCount;
 	}
 
 	public float getAnimScale() {
-		return this.entityData.get(ANIM_SCALE);
+		return this.animScale;
 	}
 
+	/**
+	 * Restarts the scale animation from the given value.
+	 * <p>
+	 * When called on the server, the new starting scale is synced once and clients animate the rest locally.
+	 */
 	public void setAnimScale(float value) {
-		this.entityData.set(ANIM_SCALE, value);
+		this.animScale = value;
+		if (!this.level().isClientSide) {
+			this.entityData.set(ANIM_SCALE_START, value);
+		}
 	}
 
 	public float getPrevAnimScale() {
-		return this.entityData.get(PREV_ANIM_SCALE);
+		return this.prevAnimScale;
 	}
 
 	public void setPrevAnimScale(float value) {
-		this.entityData.set(PREV_ANIM_SCALE, value);
+		this.prevAnimScale = value;
 	}
 
 	public ResourceLocation getColorLocation() {
@@ -415,12 +436,14 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, Bottleable {
 		if (!this.isAlive()) {
 			this.setNoGravity(false);
 		}
-		this.setFlickerAge(this.getFlickerAge() + 1);
 
-		float animScale = this.getAnimScale();
-		this.setPrevAnimScale(animScale);
-		if (animScale < 1.5F) {
-			this.setAnimScale(Math.min(this.getAnimScale() + 0.025F, 1.5F));
+		this.prevAnimScale = this.animScale;
+		if (this.animScale < MAX_ANIM_SCALE) {
+			this.animScale = Math.min(this.animScale + ANIM_SCALE_INCREMENT, MAX_ANIM_SCALE);
+			if (this.animScale >= MAX_ANIM_SCALE && !this.level().isClientSide) {
+				// Prevents newly tracking players from replaying a finished animation.
+				this.entityData.set(ANIM_SCALE_START, MAX_ANIM_SCALE);
+			}
 		}
 
 		if (this.level() instanceof ServerLevel serverLevel) {
@@ -473,7 +496,6 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, Bottleable {
 			.ifPresent(resourceKey -> compoundTag.putString("color", resourceKey.location().toString()));
 
 		compoundTag.putBoolean("fromBottle", this.fromBottle());
-		compoundTag.putInt("flickerAge", this.getFlickerAge());
 		compoundTag.putFloat("scale", this.getAnimScale());
 		compoundTag.putFloat("prevScale", this.getPrevAnimScale());
 	}
@@ -488,7 +510,6 @@ public class Firefly extends PathfinderMob implements FlyingAnimal, Bottleable {
 			.ifPresent(reference -> this.setColor(reference.value()));
 
 		if (compoundTag.contains("fromBottle")) this.setFromBottle(compoundTag.getBoolean("fromBottle"));
-		if (compoundTag.contains("flickerAge")) this.setFlickerAge(compoundTag.getInt("flickerAge"));
 		if (compoundTag.contains("scale")) this.setAnimScale(compoundTag.getFloat("scale"));
 		if (compoundTag.contains("prevScale")) this.setPrevAnimScale(compoundTag.getFloat("prevScale"));
 	}
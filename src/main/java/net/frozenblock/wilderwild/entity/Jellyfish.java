@@ -19,18 +19,15 @@
 package net.frozenblock.wilderwild.entity;
 
 import com.mojang.serialization.Dynamic;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicInteger;
-import net.frozenblock.lib.entity.api.EntityUtils;
 import net.frozenblock.lib.entity.api.NoFlopAbstractFish;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.ai.jellyfish.JellyfishAi;
 import net.frozenblock.wilderwild.entity.ai.jellyfish.JellyfishTemptGoal;
+import net.frozenblock.wilderwild.entity.impl.JellyfishPopulation;
 import net.frozenblock.wilderwild.entity.variant.jellyfish.JellyfishVariant;
 import net.frozenblock.wilderwild.entity.variant.jellyfish.JellyfishVariants;
 import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
@@ -119,7 +116,6 @@ public class Jellyfish extends NoFlopAbstractFish {
 	private static final EntityDataAccessor<String> VARIANT = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.STRING);
 	private static final EntityDataAccessor<Boolean> CAN_REPRODUCE = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
 	private static final EntityDataAccessor<Boolean> IS_BABY = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
-	private static final Map<ResourceKey<Level>, Integer> NON_PEARLESCENT_JELLYFISH_PER_LEVEL = new HashMap<>();
 	public final TargetingConditions targetingConditions = TargetingConditions.forNonCombat().ignoreInvisibilityTesting().ignoreLineOfSight().selector(this::canTargetEntity);
 	public float xBodyRot;
 	public float xRot1;
@@ -139,6 +135,8 @@ public class Jellyfish extends NoFlopAbstractFish {
 	private int forcedAge;
 	private int forcedAgeTimer;
 	private Optional<JellyfishVariant> jellyfishVariant = Optional.empty();
+	private boolean countedInPopulation;
+	private boolean countedAsPearlescent;
 
 	public Jellyfish(@NotNull EntityType<? extends Jellyfish> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -146,23 +144,7 @@ public class Jellyfish extends NoFlopAbstractFish {
 	}
 
 	public static int getJellyfishPerLevel(@NotNull ServerLevel level, boolean pearlescent) {
-		AtomicInteger count = new AtomicInteger();
-		ResourceKey<Level> dimension = level.dimension();
-		if (!NON_PEARLESCENT_JELLYFISH_PER_LEVEL.containsKey(dimension)) {
-			EntityUtils.getEntitiesPerLevel(level).forEach(entity -> {
-				if (entity instanceof Jellyfish jellyfish && (pearlescent == jellyfish.getVariantByLocation().isPearlescent())) {
-					count.addAndGet(1);
-				}
-			});
-			NON_PEARLESCENT_JELLYFISH_PER_LEVEL.put(dimension, count.get());
-		} else {
-			count.set(NON_PEARLESCENT_JELLYFISH_PER_LEVEL.get(dimension));
-		}
-		return count.get();
-	}
-
-	public static void clearLevelToNonPearlescentCount() {
-		NON_PEARLESCENT_JELLYFISH_PER_LEVEL.clear();
+		return JellyfishPopulation.get(level).getCount(pearlescent);
 	}
 
 	public static boolean checkJellyfishSpawnRules(
@@ -250,10 +232,32 @@ public class Jellyfish extends NoFlopAbstractFish {
 		}
 		if (VARIANT.equals(key)) {
 			this.jellyfishVariant = Optional.of(this.getVariantByLocation());
+			if (this.countedInPopulation && this.level() instanceof ServerLevel serverLevel) {
+				boolean pearlescent = this.getVariantForRendering().isPearlescent();
+				if (pearlescent != this.countedAsPearlescent) {
+					JellyfishPopulation population = JellyfishPopulation.get(serverLevel);
+					population.remove(this.countedAsPearlescent);
+					population.add(pearlescent);
+					this.countedAsPearlescent = pearlescent;
+				}
+			}
 		}
 		super.onSyncedDataUpdated(key);
 	}
 
+	public void startCountingInPopulation(@NotNull ServerLevel level) {
+		if (this.countedInPopulation) return;
+		this.countedAsPearlescent = this.getVariantForRendering().isPearlescent();
+		JellyfishPopulation.get(level).add(this.countedAsPearlescent);
+		this.countedInPopulation = true;
+	}
+
+	public void stopCountingInPopulation(@NotNull ServerLevel level) {
+		if (!this.countedInPopulation) return;
+		JellyfishPopulation.get(level).remove(this.countedAsPearlescent);
+		this.countedInPopulation = false;
+	}
+
 	@Override
 	protected SoundEvent getAmbientSound() {
 		return this.isInWaterOrBubble() ? WWSounds.ENTITY_JELLYFISH_AMBIENT_WATER : null;
@@ -90,7 +90,6 @@ import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec2;
 import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.CollisionContext;
-import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -137,6 +136,18 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 	private BlockState beakState;
 	@Nullable
 	private VoxelShape beakVoxelShape;
+	@Nullable
+	private AABB beakCollisionBounds;
+	private final BlockPos.MutableBlockPos beakBlockPos = new BlockPos.MutableBlockPos();
+	private long beakShapeBlockPos = Long.MAX_VALUE;
+	// Everything the beak position is derived from, so it is only recalculated once one of these changes.
+	private double beakKeyX = Double.NaN;
+	private double beakKeyY;
+	private double beakKeyZ;
+	private float beakKeyHeadRot;
+	private float beakKeyAnimProgress;
+	private float beakKeyEyeHeight;
+	private double beakKeyScale;
 
 	public Ostrich(EntityType<? extends Ostrich> entityType, Level level) {
 		super(entityType, level);
@@ -236,9 +247,7 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 
 		this.prevBeakAnimProgress = this.beakAnimProgress;
 		this.beakAnimProgress = this.beakAnimProgress + ((this.getTargetBeakAnimProgress() - this.beakAnimProgress) * this.getBeakEaseAmount());
-		this.beakPosition = this.makeBeakPos();
-		this.beakState = this.makeBeakState();
-		this.beakVoxelShape = this.getBeakState().getCollisionShape(this.level(), BlockPos.containing(this.getBeakPos()), CollisionContext.of(this));
+		this.updateBeak();
 
 		if (!this.level().isClientSide) {
 			this.handleAttackAndStuck();
@@ -270,7 +279,7 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 			if (!WWEntityConfig.get().ostrich.allowAttack && this.attackHasCommander) {
 				this.cancelAttack(true);
 			}
-			BlockPos beakBlockPos = BlockPos.containing(this.getBeakPos());
+			BlockPos beakBlockPos = this.beakBlockPos;
 			boolean hasAttacked = false;
 			AABB attackBox = this.createAttackBox(1F);
 
@@ -673,6 +682,46 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 		return bl;
 	}
 
+	/**
+	 * Updates the beak's position, the block state it is in, and that block's collision shape.
+	 * <p>
+	 * The position is only recalculated when the head moves or the beak animates,
+	 * and the collision shape only when the beak enters a different block or the block there changes.
+	 */
+	private void updateBeak() {
+		double scale = this.getScale() * this.getAgeScale();
+		float beakAnimProgress = this.getBeakAnimProgress(0F);
+		float eyeHeight = this.getEyeHeight();
+		if (this.beakPosition == null
+			|| this.beakKeyX != this.getX()
+			|| this.beakKeyY != this.getY()
+			|| this.beakKeyZ != this.getZ()
+			|| this.beakKeyHeadRot != this.getYHeadRot()
+			|| this.beakKeyAnimProgress != beakAnimProgress
+			|| this.beakKeyEyeHeight != eyeHeight
+			|| this.beakKeyScale != scale
+		) {
+			this.beakKeyX = this.getX();
+			this.beakKeyY = this.getY();
+			this.beakKeyZ = this.getZ();
+			this.beakKeyHeadRot = this.getYHeadRot();
+			this.beakKeyAnimProgress = beakAnimProgress;
+			this.beakKeyEyeHeight = eyeHeight;
+			this.beakKeyScale = scale;
+			this.beakPosition = this.makeBeakPos();
+			this.beakBlockPos.set(this.beakPosition.x(), this.beakPosition.y(), this.beakPosition.z());
+		}
+
+		BlockState beakState = this.level().getBlockState(this.beakBlockPos);
+		long beakBlockPos = this.beakBlockPos.asLong();
+		if (beakState != this.beakState || beakBlockPos != this.beakShapeBlockPos || this.beakVoxelShape == null) {
+			this.beakState = beakState;
+			this.beakShapeBlockPos = beakBlockPos;
+			this.beakVoxelShape = beakState.getCollisionShape(this.level(), this.beakBlockPos, CollisionContext.of(this));
+			this.beakCollisionBounds = this.beakVoxelShape.isEmpty() ? null : this.beakVoxelShape.bounds().move(this.beakBlockPos);
+		}
+	}
+
 	@NotNull
 	private Vec3 makeBeakPos() {
 		double scale = this.getScale() * this.getAgeScale();
@@ -743,27 +792,26 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 	}
 
 	public boolean isBeakTouchingFluid() {
+		FluidState fluidState = this.getBeakState().getFluidState();
+		if (fluidState.isEmpty()) return false;
 		Vec3 beakVec = this.getBeakPos();
 		BlockPos beakPos = BlockPos.containing(beakVec);
-		FluidState fluidState = this.getBeakState().getFluidState();
-		return !fluidState.isEmpty() && (fluidState.getHeight(this.level(), beakPos) + beakPos.getY() >= beakVec.y());
+		return fluidState.getHeight(this.level(), beakPos) + beakPos.getY() >= beakVec.y();
 	}
 
 	public boolean isBeakTouchingCollidingBlock(boolean canGetStuck) {
-		Vec3 beakVec = this.getBeakPos();
-		BlockPos beakPos = BlockPos.containing(beakVec);
-		if (this.beakVoxelShape != null && !this.beakVoxelShape.isEmpty() && this.beakVoxelShape != Shapes.empty()) {
-			AABB collisionShape = this.beakVoxelShape.bounds().move(beakPos);
-			return canGetStuck == this.canGetHeadStuckInState(this.getBeakState()) && collisionShape.contains(beakVec);
+		if (this.beakCollisionBounds != null) {
+			return canGetStuck == this.canGetHeadStuckInState(this.getBeakState()) && this.beakCollisionBounds.contains(this.getBeakPos());
 		}
 		return false;
 	}
 
 	public boolean isEyeTouchingFluid() {
+		FluidState fluidState = this.getBeakState().getFluidState();
+		if (fluidState.isEmpty()) return false;
 		Vec3 eyeVec = this.getEyePosition();
 		BlockPos eyePos = BlockPos.containing(eyeVec);
-		FluidState fluidState = this.getBeakState().getFluidState();
-		return !fluidState.isEmpty() && (fluidState.getHeight(this.level(), eyePos) + eyePos.getY() >= eyeVec.y());
+		return fluidState.getHeight(this.level(), eyePos) + eyePos.getY() >= eyeVec.y();
 	}
 
 	@Override
@@ -23,7 +23,8 @@ import net.frozenblock.lib.entity.impl.EntityStepOnBlockInterface;
 import net.frozenblock.lib.tag.api.TagUtils;
 import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.block.MesogleaBlock;
-import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.frozenblock.wilderwild.config.WWRuntimeFlags;
+import net.frozenblock.wilderwild.entity.impl.TumbleweedGroupTicker;
 import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.registry.WWDamageTypes;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
@@ -68,7 +69,6 @@ import net.minecraft.world.entity.SpawnGroupData;
 import net.minecraft.world.entity.ai.attributes.AttributeSupplier;
 import net.minecraft.world.entity.ai.attributes.Attributes;
 import net.minecraft.world.entity.item.ItemEntity;
-import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -81,6 +81,7 @@ import net.minecraft.world.level.LightLayer;
 import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -94,6 +95,7 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	public static final double INACTIVE_PLAYER_DISTANCE_FROM = 24D;
 	public static final int MAX_INACTIVE_TICKS = 200;
 	public static final int TUMBLEWEED_PLANT_ITEM_CHANCE = 15;
+	private static final int ITEM_PICKUP_INTERVAL = 4;
 	private static final EntityDataAccessor<ItemStack> ITEM_STACK = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.ITEM_STACK);
 	private static final EntityDataAccessor<Float> ITEM_X = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Float> ITEM_Z = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.FLOAT);
@@ -120,7 +122,7 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	}
 
 	public static boolean checkTumbleweedSpawnRules(EntityType<Tumbleweed> type, @NotNull ServerLevelAccessor level, MobSpawnType spawnType, @NotNull BlockPos pos, @NotNull RandomSource random) {
-		if (!MobSpawnType.isSpawner(spawnType) && !WWEntityConfig.get().tumbleweed.spawnTumbleweed) return false;
+		if (!MobSpawnType.isSpawner(spawnType) && !WWRuntimeFlags.get().spawnTumbleweed()) return false;
 		return level.getBrightness(LightLayer.SKY, pos) > 7 && random.nextInt(SPAWN_CHANCE) == 0 && pos.getY() > level.getSeaLevel();
 	}
 
@@ -203,7 +205,7 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		}
 		this.isTouchingStoppingBlock = false;
 		if (!this.level().isClientSide && this.getBlockStateOn().is(BlockTags.CROPS) && this.level().getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING) && !this.onGround()) {
-			if (WWEntityConfig.get().tumbleweed.tumbleweedDestroysCrops) {
+			if (WWRuntimeFlags.get().tumbleweedDestroysCrops()) {
 				this.level().destroyBlock(this.blockPosition(), true, this);
 			}
 		}
@@ -216,10 +218,11 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		} else if (!this.isRemoved() && this.level() instanceof ServerLevel serverLevel) {
 			this.heal(1F);
 			double brightness = this.level().getBrightness(LightLayer.SKY, BlockPos.containing(this.getEyePosition()));
-			this.checkActive(brightness);
+			this.checkActive(serverLevel, brightness);
 			this.moveWithWind(serverLevel, brightness, deltaPos);
 			this.tickAfterWindLeash();
 			this.pickupItem();
+			this.syncVisibleItem();
 		}
 	}
 
@@ -262,9 +265,8 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		}
 	}
 
-	private void checkActive(double brightness) {
-		Player entity = this.level().getNearestPlayer(this, -1D);
-		if (!this.requiresCustomPersistence() && ((brightness < 7 && (entity == null || entity.distanceTo(this) > INACTIVE_PLAYER_DISTANCE_FROM)) || this.isTouchingStoppingBlock || this.isTouchingStickingBlock || (this.wasTouchingWater && !(this.getBlockStateOn().getBlock() instanceof MesogleaBlock)))) {
+	private void checkActive(@NotNull ServerLevel serverLevel, double brightness) {
+		if (!this.requiresCustomPersistence() && ((brightness < 7 && !TumbleweedGroupTicker.get(serverLevel).isNearPlayer(serverLevel, this)) || this.isTouchingStoppingBlock || this.isTouchingStickingBlock || (this.wasTouchingWater && !(this.getBlockStateOn().getBlock() instanceof MesogleaBlock)))) {
 			++this.ticksSinceActive;
 			if (this.ticksSinceActive >= MAX_INACTIVE_TICKS) {
 				this.destroy(false);
@@ -321,8 +323,11 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		if (inventoryStack.getCount() > 1) {
 			this.level().addFreshEntity(new ItemEntity(this.level(), this.getX(), this.getY(), this.getZ(), inventoryStack.split(inventoryStack.getCount() - 1)));
 		}
-		if (!this.level().isClientSide && inventoryStack.isEmpty() && this.level().getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING) && !this.isRemoved()) {
-			List<ItemEntity> list = this.level().getEntitiesOfClass(ItemEntity.class, this.getBoundingBox().inflate(0.15D));
+		boolean canCheckForItems = (this.tickCount + this.getId()) % ITEM_PICKUP_INTERVAL == 0;
+		if (!this.level().isClientSide && inventoryStack.isEmpty() && canCheckForItems && this.level().getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING) && !this.isRemoved()) {
+			// Items are only searched for every few ticks, so the search covers the path taken since the last check.
+			AABB pickupBox = this.getBoundingBox().expandTowards(this.getDeltaPos().scale(-ITEM_PICKUP_INTERVAL)).inflate(0.15D);
+			List<ItemEntity> list = this.level().getEntitiesOfClass(ItemEntity.class, pickupBox);
 			for (ItemEntity item : list) {
 				if (this.isMovingTowards(item)) {
 					ItemStack stack = item.getItem();
@@ -335,7 +340,13 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 				}
 			}
 		}
-		this.setVisibleItem(this.inventory.get(0));
+	}
+
+	private void syncVisibleItem() {
+		ItemStack stack = this.inventory.get(0);
+		if (!ItemStack.matches(stack, this.getVisibleItem())) {
+			this.setVisibleItem(stack.copy());
+		}
 	}
 
 	public void dropItem(boolean killed) {
@@ -380,7 +391,7 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 
 	@Override
 	public boolean canBeLeashed() {
-		return WWEntityConfig.get().tumbleweed.leashedTumbleweed;
+		return WWRuntimeFlags.get().leashedTumbleweed();
 	}
 
 	@Override
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai.penguin;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.HashMap;
+import java.util.Map;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.PathfinderMob;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Finds where a {@link net.frozenblock.wilderwild.entity.Penguin} in water should escape to.
+ * <p>
+ * Positions are scanned in shells of equal Manhattan distance, starting with the farthest shell, without collecting them into lists.
+ * The last escape target found in each chunk is kept for a short while, so Penguins in the same colony can share it.
+ */
+public final class PenguinEscapeTargets {
+	public static final int NONE = 0;
+	public static final int LAND = 1;
+	public static final int WATER_SURFACE = 2;
+	private static final Map<ResourceKey<Level>, PenguinEscapeTargets> TARGETS = new HashMap<>();
+	private static final long TARGET_LIFETIME = 60L;
+	private static final long NONE_LIFETIME = 20L;
+	private static final long PRUNE_INTERVAL = 600L;
+
+	private final Long2ObjectOpenHashMap<CachedTarget> targetsByChunk = new Long2ObjectOpenHashMap<>();
+	private final BlockPos.MutableBlockPos candidatePos = new BlockPos.MutableBlockPos();
+	private final BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
+	private long lastPruneTime;
+
+	private PenguinEscapeTargets() {
+	}
+
+	@NotNull
+	public static PenguinEscapeTargets get(@NotNull ServerLevel level) {
+		return TARGETS.computeIfAbsent(level.dimension(), dimension -> new PenguinEscapeTargets());
+	}
+
+	public static void clearTargets() {
+		TARGETS.clear();
+	}
+
+	/**
+	 * Finds an escape target within {@code range} blocks on each axis of the given mob.
+	 * <p>
+	 * Land is always preferred over the surface of water.
+	 *
+	 * @param result Set to the found position if one was found.
+	 * @return {@link #LAND}, {@link #WATER_SURFACE}, or {@link #NONE} if no target was found.
+	 */
+	public int find(@NotNull ServerLevel level, @NotNull PathfinderMob mob, int range, @NotNull BlockPos.MutableBlockPos result) {
+		BlockPos origin = mob.blockPosition();
+		long gameTime = level.getGameTime();
+		if (gameTime - this.lastPruneTime >= PRUNE_INTERVAL) {
+			this.targetsByChunk.values().removeIf(target -> gameTime - target.time >= TARGET_LIFETIME);
+			this.lastPruneTime = gameTime;
+		}
+
+		CollisionContext collisionContext = CollisionContext.of(mob);
+		long chunkKey = ChunkPos.asLong(origin);
+		CachedTarget cachedTarget = this.targetsByChunk.get(chunkKey);
+		if (cachedTarget != null && this.isCachedTargetUsable(level, cachedTarget, origin, range, gameTime, collisionContext)) {
+			if (cachedTarget.type != NONE) result.set(cachedTarget.pos);
+			return cachedTarget.type;
+		}
+
+		int type = this.scan(level, origin, range, level.random, collisionContext, result);
+		if (cachedTarget == null) {
+			cachedTarget = new CachedTarget();
+			this.targetsByChunk.put(chunkKey, cachedTarget);
+		}
+		cachedTarget.pos = type != NONE ? result.asLong() : 0L;
+		cachedTarget.type = type;
+		cachedTarget.time = gameTime;
+		return type;
+	}
+
+	private boolean isCachedTargetUsable(
+		@NotNull ServerLevel level,
+		@NotNull CachedTarget cachedTarget,
+		@NotNull BlockPos origin,
+		int range,
+		long gameTime,
+		@NotNull CollisionContext collisionContext
+	) {
+		long age = gameTime - cachedTarget.time;
+		if (cachedTarget.type == NONE) return age < NONE_LIFETIME;
+		if (age >= TARGET_LIFETIME) return false;
+
+		BlockPos.MutableBlockPos pos = this.candidatePos.set(cachedTarget.pos);
+		int xOffset = pos.getX() - origin.getX();
+		int zOffset = pos.getZ() - origin.getZ();
+		if (Math.abs(xOffset) > range || Math.abs(pos.getY() - origin.getY()) > range || Math.abs(zOffset) > range) return false;
+		if (xOffset == 0 && zOffset == 0) return false;
+
+		BlockState state = level.getBlockState(pos);
+		return cachedTarget.type == LAND
+			? this.isLand(level, pos, state, collisionContext)
+			: this.isWaterSurface(level, pos, state);
+	}
+
+	private int scan(
+		@NotNull ServerLevel level,
+		@NotNull BlockPos origin,
+		int range,
+		@NotNull RandomSource random,
+		@NotNull CollisionContext collisionContext,
+		@NotNull BlockPos.MutableBlockPos result
+	) {
+		int width = (range * 2) + 1;
+		int xStart = random.nextInt(width);
+		int yDirection = random.nextBoolean() ? 1 : -1;
+		int zDirection = random.nextBoolean() ? 1 : -1;
+		boolean foundWaterSurface = false;
+		BlockPos.MutableBlockPos pos = this.candidatePos;
+
+		for (int distance = range * 3; distance > 0; distance--) {
+			for (int i = 0; i < width; i++) {
+				int xOffset = ((xStart + i) % width) - range;
+				int yzDistance = distance - Math.abs(xOffset);
+				if (yzDistance < 0) continue;
+
+				int yRange = Math.min(range, yzDistance);
+				for (int y = -yRange; y <= yRange; y++) {
+					int yOffset = y * yDirection;
+					int zDistance = yzDistance - Math.abs(yOffset);
+					if (zDistance > range || (xOffset == 0 && zDistance == 0)) continue;
+
+					for (int side = 0; side < (zDistance == 0 ? 1 : 2); side++) {
+						int zOffset = side == 0 ? zDistance * zDirection : -zDistance * zDirection;
+						pos.setWithOffset(origin, xOffset, yOffset, zOffset);
+						BlockState state = level.getBlockState(pos);
+						if (state.is(Blocks.WATER)) {
+							if (!foundWaterSurface && this.isWaterSurface(level, pos, state)) {
+								result.set(pos);
+								foundWaterSurface = true;
+							}
+						} else if (this.isLand(level, pos, state, collisionContext)) {
+							result.set(pos);
+							return LAND;
+						}
+					}
+				}
+			}
+		}
+		return foundWaterSurface ? WATER_SURFACE : NONE;
+	}
+
+	private boolean isLand(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull CollisionContext collisionContext) {
+		if (state.is(Blocks.WATER) || !state.getFluidState().isEmpty()) return false;
+		if (!state.getCollisionShape(level, pos, collisionContext).isEmpty()) return false;
+		BlockPos.MutableBlockPos belowPos = this.neighborPos.setWithOffset(pos, Direction.DOWN);
+		return level.getBlockState(belowPos).isFaceSturdy(level, belowPos, Direction.UP);
+	}
+
+	private boolean isWaterSurface(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state) {
+		return state.is(Blocks.WATER) && level.getBlockState(this.neighborPos.setWithOffset(pos, Direction.UP)).isAir();
+	}
+
+	private static final class CachedTarget {
+		private long pos;
+		private int type;
+		private long time;
+	}
+}
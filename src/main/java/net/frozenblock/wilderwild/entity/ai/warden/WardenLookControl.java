@@ -18,7 +18,7 @@
 
 package net.frozenblock.wilderwild.entity.ai.warden;
 
-import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.frozenblock.wilderwild.config.WWRuntimeFlags;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ai.control.LookControl;
@@ -40,7 +40,7 @@ public class WardenLookControl extends LookControl {
 
 	@Override
 	public void tick() {
-		if (!WWEntityConfig.WARDEN_SWIMS || !entityTouchingWaterOrLava(this.mob)) {
+		if (!WWRuntimeFlags.get().wardenSwims() || !entityTouchingWaterOrLava(this.mob)) {
 			super.tick();
 		} else {
 			if (this.lookAtCooldown > 0) {
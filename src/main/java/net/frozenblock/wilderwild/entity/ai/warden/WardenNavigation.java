@@ -18,7 +18,7 @@
 
 package net.frozenblock.wilderwild.entity.ai.warden;
 
-import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.frozenblock.wilderwild.config.WWRuntimeFlags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.tags.FluidTags;
 import net.minecraft.world.entity.Entity;
@@ -52,7 +52,7 @@ public class WardenNavigation extends GroundPathNavigation {
 
 			@Override
 			public float distance(@NotNull Node a, @NotNull Node b) {
-				return WWEntityConfig.WARDEN_SWIMS && this.entitySubmergedInWaterOrLava(mob) ? a.distanceTo(b) : a.distanceToXZ(b);
+				return WWRuntimeFlags.get().wardenSwims() && this.entitySubmergedInWaterOrLava(mob) ? a.distanceTo(b) : a.distanceToXZ(b);
 			}
 		};
 	}
@@ -60,31 +60,31 @@ public class WardenNavigation extends GroundPathNavigation {
 	@Override
 	@NotNull
 	protected Vec3 getTempMobPos() {
-		return WWEntityConfig.WARDEN_SWIMS && this.isInLiquid() ? new Vec3(this.mob.getX(), this.mob.getY(0.5), this.mob.getZ()) : super.getTempMobPos();
+		return WWRuntimeFlags.get().wardenSwims() && this.isInLiquid() ? new Vec3(this.mob.getX(), this.mob.getY(0.5), this.mob.getZ()) : super.getTempMobPos();
 	}
 
 	@Override
 	protected double getGroundY(@NotNull Vec3 pos) {
 		BlockPos blockPos = BlockPos.containing(pos);
-		return WWEntityConfig.WARDEN_SWIMS && (this.isInLiquid() || this.level.getBlockState(blockPos.below()).isAir()) ? pos.y : WardenNodeEvaluator.getFloorLevel(this.level, blockPos);
+		return WWRuntimeFlags.get().wardenSwims() && (this.isInLiquid() || this.level.getBlockState(blockPos.below()).isAir()) ? pos.y : WardenNodeEvaluator.getFloorLevel(this.level, blockPos);
 	}
 
 	@Override
 	protected boolean canMoveDirectly(@NotNull Vec3 origin, @NotNull Vec3 target) {
-		return WWEntityConfig.WARDEN_SWIMS && this.isInLiquid() ? isClearForMovementBetween(this.mob, origin, target, false) : super.canMoveDirectly(origin, target);
+		return WWRuntimeFlags.get().wardenSwims() && this.isInLiquid() ? isClearForMovementBetween(this.mob, origin, target, false) : super.canMoveDirectly(origin, target);
 	}
 
 	@Override
 	protected boolean hasValidPathType(@NotNull PathType pathType) {
-		return WWEntityConfig.WARDEN_SWIMS ? pathType != PathType.OPEN : super.hasValidPathType(pathType);
+		return WWRuntimeFlags.get().wardenSwims() ? pathType != PathType.OPEN : super.hasValidPathType(pathType);
 	}
 
 	@Override
 	protected boolean canUpdatePath() {
-		return super.canUpdatePath() || (this.mob.isVisuallySwimming() && WWEntityConfig.WARDEN_SWIMS);
+		return super.canUpdatePath() || (this.mob.isVisuallySwimming() && WWRuntimeFlags.get().wardenSwims());
 	}
 
 	public boolean isInLiquid() {
-		return this.mob.isInLiquid() || (this.mob.isVisuallySwimming() && WWEntityConfig.WARDEN_SWIMS);
+		return this.mob.isInLiquid() || (this.mob.isVisuallySwimming() && WWRuntimeFlags.get().wardenSwims());
 	}
 }
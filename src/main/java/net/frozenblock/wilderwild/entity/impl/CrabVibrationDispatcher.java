@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import net.frozenblock.wilderwild.entity.Crab;
+import net.frozenblock.wilderwild.tag.WWGameEventTags;
+import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.gameevent.BlockPositionSource;
+import net.minecraft.world.level.gameevent.GameEvent;
+import net.minecraft.world.level.gameevent.GameEventListener;
+import net.minecraft.world.level.gameevent.GameEventListenerRegistry;
+import net.minecraft.world.level.gameevent.PositionSource;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Listens for vibrations on behalf of every {@link Crab} in a {@link ServerLevel}.
+ * <p>
+ * Crabs are grouped by the chunk section they are in, and each occupied section registers a single listener
+ * that forwards game events to the Crabs within range, instead of every Crab registering its own listener.
+ */
+public final class CrabVibrationDispatcher {
+	private static final Map<ResourceKey<Level>, CrabVibrationDispatcher> DISPATCHERS = new HashMap<>();
+	private static final int SECTION_LISTENER_RADIUS = Crab.VibrationUser.GAME_EVENT_LISTENER_RANGE
+		+ Mth.ceil(Math.sqrt(3D) * SectionPos.SECTION_HALF_SIZE);
+	private static final int CRAB_LISTENER_RANGE_SQR = Crab.VibrationUser.GAME_EVENT_LISTENER_RANGE * Crab.VibrationUser.GAME_EVENT_LISTENER_RANGE;
+
+	private final Long2ObjectOpenHashMap<SectionListener> sections = new Long2ObjectOpenHashMap<>();
+	private final Reference2LongOpenHashMap<Crab> crabSections = new Reference2LongOpenHashMap<>();
+
+	private CrabVibrationDispatcher() {
+	}
+
+	@NotNull
+	public static CrabVibrationDispatcher get(@NotNull ServerLevel level) {
+		return DISPATCHERS.computeIfAbsent(level.dimension(), dimension -> new CrabVibrationDispatcher());
+	}
+
+	public static void clearDispatchers() {
+		DISPATCHERS.clear();
+	}
+
+	/**
+	 * Moves the given Crab to the listener of its current chunk section, or removes it if it has been removed from the level.
+	 */
+	public void update(@NotNull ServerLevel level, @NotNull Crab crab) {
+		if (crab.isRemoved()) {
+			this.remove(level, crab);
+			return;
+		}
+
+		long sectionKey = SectionPos.asLong(crab.blockPosition());
+		if (this.crabSections.containsKey(crab)) {
+			if (this.crabSections.getLong(crab) == sectionKey) return;
+			this.remove(level, crab);
+		}
+
+		SectionListener listener = this.sections.get(sectionKey);
+		if (listener == null) {
+			listener = new SectionListener(sectionKey);
+			this.sections.put(sectionKey, listener);
+			GameEventListenerRegistry registry = getListenerRegistry(level, sectionKey);
+			if (registry != null) registry.register(listener);
+		}
+		listener.crabs.add(crab);
+		this.crabSections.put(crab, sectionKey);
+	}
+
+	private void remove(@NotNull ServerLevel level, @NotNull Crab crab) {
+		if (!this.crabSections.containsKey(crab)) return;
+		long sectionKey = this.crabSections.removeLong(crab);
+		SectionListener listener = this.sections.get(sectionKey);
+		if (listener == null) return;
+
+		listener.crabs.remove(crab);
+		if (listener.crabs.isEmpty()) {
+			this.sections.remove(sectionKey);
+			GameEventListenerRegistry registry = getListenerRegistry(level, sectionKey);
+			if (registry != null) registry.unregister(listener);
+		}
+	}
+
+	@Nullable
+	private static GameEventListenerRegistry getListenerRegistry(@NotNull ServerLevel level, long sectionKey) {
+		LevelChunk chunk = level.getChunkSource().getChunkNow(SectionPos.x(sectionKey), SectionPos.z(sectionKey));
+		return chunk != null ? chunk.getListenerRegistry(SectionPos.y(sectionKey)) : null;
+	}
+
+	private static final class SectionListener implements GameEventListener {
+		private final ReferenceArrayList<Crab> crabs = new ReferenceArrayList<>();
+		private final PositionSource positionSource;
+
+		private SectionListener(long sectionKey) {
+			this.positionSource = new BlockPositionSource(SectionPos.of(sectionKey).center());
+		}
+
+		@Override
+		@NotNull
+		public PositionSource getListenerSource() {
+			return this.positionSource;
+		}
+
+		@Override
+		public int getListenerRadius() {
+			return SECTION_LISTENER_RADIUS;
+		}
+
+		@Override
+		@NotNull
+		public DeliveryMode getDeliveryMode() {
+			return DeliveryMode.BY_DISTANCE;
+		}
+
+		@Override
+		public boolean handleGameEvent(@NotNull ServerLevel level, @NotNull Holder<GameEvent> gameEvent, @NotNull GameEvent.Context context, @NotNull Vec3 pos) {
+			if (!gameEvent.is(WWGameEventTags.CRAB_CAN_DETECT)) return false;
+
+			boolean handled = false;
+			for (Crab crab : this.crabs) {
+				if (crab.getEyePosition().distanceToSqr(pos) > CRAB_LISTENER_RANGE_SQR) continue;
+				if (crab.getVibrationListener().handleGameEvent(level, gameEvent, context, pos)) {
+					crab.markVibrationPending();
+					handled = true;
+				}
+			}
+			return handled;
+		}
+	}
+}
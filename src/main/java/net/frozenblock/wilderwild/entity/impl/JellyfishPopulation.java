@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Counts the {@link Jellyfish} loaded in each {@link ServerLevel}, split between pearlescent and non-pearlescent variants.
+ * <p>
+ * Counts are updated as Jellyfish load, unload, and change variant, so spawn rules never need to scan the level's entities.
+ */
+public final class JellyfishPopulation {
+	private static final Map<ResourceKey<Level>, JellyfishPopulation> POPULATIONS = new HashMap<>();
+
+	private int pearlescent;
+	private int nonPearlescent;
+
+	private JellyfishPopulation() {
+	}
+
+	@NotNull
+	public static JellyfishPopulation get(@NotNull ServerLevel level) {
+		return POPULATIONS.computeIfAbsent(level.dimension(), dimension -> new JellyfishPopulation());
+	}
+
+	public static void onEntityLoad(@NotNull Entity entity, @NotNull ServerLevel level) {
+		if (entity instanceof Jellyfish jellyfish) jellyfish.startCountingInPopulation(level);
+	}
+
+	public static void onEntityUnload(@NotNull Entity entity, @NotNull ServerLevel level) {
+		if (entity instanceof Jellyfish jellyfish) jellyfish.stopCountingInPopulation(level);
+	}
+
+	public static void clearPopulations() {
+		POPULATIONS.clear();
+	}
+
+	public int getCount(boolean pearlescent) {
+		return pearlescent ? this.pearlescent : this.nonPearlescent;
+	}
+
+	public void add(boolean pearlescent) {
+		if (pearlescent) {
+			this.pearlescent += 1;
+		} else {
+			this.nonPearlescent += 1;
+		}
+	}
+
+	public void remove(boolean pearlescent) {
+		if (pearlescent) {
+			this.pearlescent = Math.max(0, this.pearlescent - 1);
+		} else {
+			this.nonPearlescent = Math.max(0, this.nonPearlescent - 1);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.impl;
+
+import net.frozenblock.wilderwild.registry.WWBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Finds where a Warden's sonic boom is stopped by Echo Glass.
+ * <p>
+ * The boom is blocked once six rays, each starting just off the center of the boom's origin block in a different direction,
+ * have all passed through Echo Glass.
+ * Each ray is traced once along the whole boom, rather than once per step of the boom.
+ */
+public final class SonicBoomOcclusion {
+	public static final SonicBoomOcclusion NONE = new SonicBoomOcclusion(-1, null);
+	private static final double RAY_OFFSET = 9.999999747378752E-6D;
+
+	private final int firstOccludedStep;
+	@Nullable
+	private final BlockPos hitPos;
+
+	private SonicBoomOcclusion(int firstOccludedStep, @Nullable BlockPos hitPos) {
+		this.firstOccludedStep = firstOccludedStep;
+		this.hitPos = hitPos;
+	}
+
+	/**
+	 * Traces a sonic boom starting at {@code origin}, with steps one block apart along {@code direction} until (but not including) {@code stepCount}.
+	 */
+	@NotNull
+	public static SonicBoomOcclusion trace(@NotNull BlockGetter level, @NotNull Vec3 origin, @NotNull Vec3 direction, int stepCount) {
+		if (stepCount <= 1) return NONE;
+		Vec3 start = blockCenter(origin);
+		Vec3 end = blockCenter(origin.add(direction.scale(stepCount - 1)));
+
+		double furthestHit = Double.NEGATIVE_INFINITY;
+		BlockPos hitPos = null;
+		for (Direction offsetDirection : Direction.values()) {
+			BlockPos rayHitPos = BlockGetter.traverseBlocks(
+				start.relative(offsetDirection, RAY_OFFSET),
+				end,
+				level,
+				(blockGetter, pos) -> blockGetter.getBlockState(pos).is(WWBlocks.ECHO_GLASS) ? pos.immutable() : null,
+				blockGetter -> null
+			);
+			if (rayHitPos == null) return NONE;
+			furthestHit = Math.max(furthestHit, Vec3.atCenterOf(rayHitPos).subtract(start).dot(direction));
+			hitPos = rayHitPos;
+		}
+
+		for (int step = 1; step < stepCount; step++) {
+			if (blockCenter(origin.add(direction.scale(step))).subtract(start).dot(direction) >= furthestHit) {
+				return new SonicBoomOcclusion(step, hitPos);
+			}
+		}
+		return NONE;
+	}
+
+	@NotNull
+	private static Vec3 blockCenter(@NotNull Vec3 pos) {
+		return new Vec3(Mth.floor(pos.x) + 0.5D, Mth.floor(pos.y) + 0.5D, Mth.floor(pos.z) + 0.5D);
+	}
+
+	public boolean isOccluded() {
+		return this.firstOccludedStep != -1;
+	}
+
+	/**
+	 * Returns whether Echo Glass blocks the boom before it reaches the given step.
+	 */
+	public boolean isOccludedAt(int step) {
+		return this.isOccluded() && step >= this.firstOccludedStep;
+	}
+
+	/**
+	 * Returns the Echo Glass the boom hit, or {@code null} if the boom is not blocked.
+	 */
+	@Nullable
+	public BlockPos getHitPos() {
+		return this.hitPos;
+	}
+}
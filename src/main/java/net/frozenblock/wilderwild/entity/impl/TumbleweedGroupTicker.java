@@ -0,0 +1,100 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.frozenblock.wilderwild.entity.Tumbleweed;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shares per-tick work between every {@link Tumbleweed} in a {@link ServerLevel}.
+ * <p>
+ * Players close enough to keep Tumbleweeds active are gathered once per chunk per tick,
+ * so each Tumbleweed only checks the few players near its own chunk.
+ */
+public final class TumbleweedGroupTicker {
+	private static final Map<ResourceKey<Level>, TumbleweedGroupTicker> TICKERS = new HashMap<>();
+	private static final double ACTIVE_DISTANCE_SQR = Tumbleweed.INACTIVE_PLAYER_DISTANCE_FROM * Tumbleweed.INACTIVE_PLAYER_DISTANCE_FROM;
+
+	private final Long2ObjectOpenHashMap<List<ServerPlayer>> nearbyPlayersByChunk = new Long2ObjectOpenHashMap<>();
+	private long cachedGameTime = Long.MIN_VALUE;
+
+	private TumbleweedGroupTicker() {
+	}
+
+	@NotNull
+	public static TumbleweedGroupTicker get(@NotNull ServerLevel level) {
+		return TICKERS.computeIfAbsent(level.dimension(), dimension -> new TumbleweedGroupTicker());
+	}
+
+	public static void clearTickers() {
+		TICKERS.clear();
+	}
+
+	/**
+	 * Returns whether a non-spectator player is within {@link Tumbleweed#INACTIVE_PLAYER_DISTANCE_FROM} blocks of the given Tumbleweed.
+	 */
+	public boolean isNearPlayer(@NotNull ServerLevel level, @NotNull Tumbleweed tumbleweed) {
+		long gameTime = level.getGameTime();
+		if (gameTime != this.cachedGameTime) {
+			this.nearbyPlayersByChunk.clear();
+			this.cachedGameTime = gameTime;
+		}
+
+		long chunkKey = ChunkPos.asLong(tumbleweed.blockPosition());
+		List<ServerPlayer> players = this.nearbyPlayersByChunk.get(chunkKey);
+		if (players == null) {
+			players = collectNearbyPlayers(level, new ChunkPos(chunkKey));
+			this.nearbyPlayersByChunk.put(chunkKey, players);
+		}
+
+		for (ServerPlayer player : players) {
+			if (player.distanceToSqr(tumbleweed) <= ACTIVE_DISTANCE_SQR) return true;
+		}
+		return false;
+	}
+
+	@NotNull
+	private static List<ServerPlayer> collectNearbyPlayers(@NotNull ServerLevel level, @NotNull ChunkPos chunkPos) {
+		List<ServerPlayer> nearbyPlayers = null;
+		double minX = chunkPos.getMinBlockX();
+		double minZ = chunkPos.getMinBlockZ();
+		double maxX = chunkPos.getMaxBlockX() + 1D;
+		double maxZ = chunkPos.getMaxBlockZ() + 1D;
+		for (ServerPlayer player : level.players()) {
+			if (player.isSpectator()) continue;
+			double xDistance = Math.max(0D, Math.max(minX - player.getX(), player.getX() - maxX));
+			double zDistance = Math.max(0D, Math.max(minZ - player.getZ(), player.getZ() - maxZ));
+			if ((xDistance * xDistance) + (zDistance * zDistance) <= ACTIVE_DISTANCE_SQR) {
+				if (nearbyPlayers == null) nearbyPlayers = new ArrayList<>();
+				nearbyPlayers.add(player);
+			}
+		}
+		return nearbyPlayers == null ? List.of() : nearbyPlayers;
+	}
+}
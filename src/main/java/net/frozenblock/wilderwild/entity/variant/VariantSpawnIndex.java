@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.variant;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import net.minecraft.core.Holder;
+import net.minecraft.core.HolderSet;
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.biome.Biome;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Maps each {@link Biome} to the variants of a variant registry that can spawn in it.
+ * <p>
+ * The index is built the first time it's needed for a registry, and rebuilt after data packs reload,
+ * so picking a spawn variant never needs to check every variant's biomes.
+ */
+public final class VariantSpawnIndex<T> {
+	private static final List<VariantSpawnIndex<?>> INDEXES = new ReferenceArrayList<>();
+
+	private final ResourceKey<? extends Registry<T>> registryKey;
+	private final Function<T, HolderSet<Biome>> biomeGetter;
+	@Nullable
+	private volatile Index<T> index;
+
+	private VariantSpawnIndex(@NotNull ResourceKey<? extends Registry<T>> registryKey, @NotNull Function<T, HolderSet<Biome>> biomeGetter) {
+		this.registryKey = registryKey;
+		this.biomeGetter = biomeGetter;
+	}
+
+	@NotNull
+	public static <T> VariantSpawnIndex<T> create(@NotNull ResourceKey<? extends Registry<T>> registryKey, @NotNull Function<T, HolderSet<Biome>> biomeGetter) {
+		VariantSpawnIndex<T> spawnIndex = new VariantSpawnIndex<>(registryKey, biomeGetter);
+		synchronized (INDEXES) {
+			INDEXES.add(spawnIndex);
+		}
+		return spawnIndex;
+	}
+
+	/**
+	 * Discards every built index, to be rebuilt the next time a spawn variant is picked.
+	 */
+	public static void invalidateAll() {
+		synchronized (INDEXES) {
+			for (VariantSpawnIndex<?> spawnIndex : INDEXES) {
+				spawnIndex.index = null;
+			}
+		}
+	}
+
+	/**
+	 * Picks a random variant that can spawn in the given biome.
+	 *
+	 * @return the picked variant, or {@code null} if no variant can spawn in the biome.
+	 */
+	@Nullable
+	public Holder<T> getRandomVariant(@NotNull RegistryAccess registryAccess, @NotNull Holder<Biome> biome, @NotNull RandomSource random) {
+		Registry<T> registry = registryAccess.registryOrThrow(this.registryKey);
+		Index<T> index = this.index;
+		if (index == null || index.registry != registry) {
+			index = this.build(registry);
+			this.index = index;
+		}
+
+		Holder<T>[] candidates = index.variantsByBiome.get(biome);
+		if (candidates == null) return null;
+		return candidates[random.nextInt(candidates.length)];
+	}
+
+	@NotNull
+	@SuppressWarnings("unchecked")
+	private Index<T> build(@NotNull Registry<T> registry) {
+		Map<Holder<Biome>, List<Holder<T>>> variantLists = new Reference2ObjectOpenHashMap<>();
+		registry.holders().forEach(reference -> {
+			for (Holder<Biome> biome : this.biomeGetter.apply(reference.value())) {
+				variantLists.computeIfAbsent(biome, ignored -> new ReferenceArrayList<>()).add(reference);
+			}
+		});
+
+		Reference2ObjectOpenHashMap<Holder<Biome>, Holder<T>[]> variantsByBiome = new Reference2ObjectOpenHashMap<>(variantLists.size());
+		variantLists.forEach((biome, variants) -> variantsByBiome.put(biome, variants.toArray(Holder[]::new)));
+		return new Index<>(registry, variantsByBiome);
+	}
+
+	private record Index<T>(Registry<T> registry, Map<Holder<Biome>, Holder<T>[]> variantsByBiome) {
+	}
+}
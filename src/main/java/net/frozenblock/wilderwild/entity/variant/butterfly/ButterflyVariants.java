@@ -18,11 +18,10 @@
 
 package net.frozenblock.wilderwild.entity.variant.butterfly;
 
-import java.util.List;
 import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.entity.variant.VariantSpawnIndex;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
 import net.frozenblock.wilderwild.tag.WWBiomeTags;
-import net.minecraft.Util;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
@@ -44,6 +43,7 @@ public final class ButterflyVariants {
 	public static final ResourceKey<ButterflyVariant> CLOUDED_YELLOW = createKey("clouded_yellow");
 	public static final ResourceKey<ButterflyVariant> DUSKWING = createKey("duskwing");
 	public static final ResourceKey<ButterflyVariant> DEFAULT = MONARCH;
+	private static final VariantSpawnIndex<ButterflyVariant> SPAWN_INDEX = VariantSpawnIndex.create(WilderWildRegistries.BUTTERFLY_VARIANT, ButterflyVariant::biomes);
 
 	private static @NotNull ResourceKey<ButterflyVariant> createKey(String string) {
 		return ResourceKey.create(WilderWildRegistries.BUTTERFLY_VARIANT, WWConstants.id(string));
@@ -66,16 +66,11 @@ public final class ButterflyVariants {
 	}
 
 	public static Holder<ButterflyVariant> getSpawnVariant(@NotNull RegistryAccess registryAccess, Holder<Biome> holder, RandomSource random) {
-		Registry<ButterflyVariant> registry = registryAccess.registryOrThrow(WilderWildRegistries.BUTTERFLY_VARIANT);
-		List<Holder.Reference<ButterflyVariant>> variants = registry.holders()
-			.filter(reference -> (reference.value()).biomes().contains(holder))
-			.toList();
+		Holder<ButterflyVariant> spawnVariant = SPAWN_INDEX.getRandomVariant(registryAccess, holder, random);
+		if (spawnVariant != null) return spawnVariant;
 
-		if (!variants.isEmpty()) {
-			return Util.getRandom(variants, random);
-		} else {
-			return registry.getRandom(random).orElseThrow();
-		}
+		Registry<ButterflyVariant> registry = registryAccess.registryOrThrow(WilderWildRegistries.BUTTERFLY_VARIANT);
+		return registry.getRandom(random).orElseThrow();
 	}
 
 	public static void bootstrap(BootstrapContext<ButterflyVariant> bootstrapContext) {
@@ -18,10 +18,9 @@
 
 package net.frozenblock.wilderwild.entity.variant.crab;
 
-import java.util.List;
 import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.entity.variant.VariantSpawnIndex;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
-import net.minecraft.Util;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.Registry;
@@ -38,6 +37,7 @@ import org.jetbrains.annotations.NotNull;
 public final class CrabVariants {
 	public static final ResourceKey<CrabVariant> CRAB = createKey("crab");
 	public static final ResourceKey<CrabVariant> DEFAULT = CRAB;
+	private static final VariantSpawnIndex<CrabVariant> SPAWN_INDEX = VariantSpawnIndex.create(WilderWildRegistries.CRAB_VARIANT, CrabVariant::biomes);
 
 	private static @NotNull ResourceKey<CrabVariant> createKey(String string) {
 		return ResourceKey.create(WilderWildRegistries.CRAB_VARIANT, WWConstants.id(string));
@@ -69,16 +69,11 @@ public final class CrabVariants {
 	}
 
 	public static Holder<CrabVariant> getSpawnVariant(@NotNull RegistryAccess registryAccess, Holder<Biome> holder, RandomSource random) {
-		Registry<CrabVariant> registry = registryAccess.registryOrThrow(WilderWildRegistries.CRAB_VARIANT);
-		List<Holder.Reference<CrabVariant>> variants = registry.holders()
-			.filter(reference -> (reference.value()).biomes().contains(holder))
-			.toList();
+		Holder<CrabVariant> spawnVariant = SPAWN_INDEX.getRandomVariant(registryAccess, holder, random);
+		if (spawnVariant != null) return spawnVariant;
 
-		if (!variants.isEmpty()) {
-			return Util.getRandom(variants, random);
-		} else {
-			return registry.getRandom(random).orElseThrow();
-		}
+		Registry<CrabVariant> registry = registryAccess.registryOrThrow(WilderWildRegistries.CRAB_VARIANT);
+		return registry.getRandom(random).orElseThrow();
 	}
 
 	public static void bootstrap(BootstrapContext<CrabVariant> bootstrapContext) {
@@ -22,8 +22,8 @@ import com.google.common.collect.ImmutableList;
 import java.util.List;
 import java.util.stream.Stream;
 import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.entity.variant.VariantSpawnIndex;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
-import net.minecraft.Util;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderSet;
 import net.minecraft.core.Registry;
@@ -55,6 +55,7 @@ public final class FireflyColors {
 	public static final ResourceKey<FireflyColor> WHITE = createKey("white");
 	public static final ResourceKey<FireflyColor> YELLOW = createKey("yellow");
 	public static final ResourceKey<FireflyColor> DEFAULT = ON;
+	private static final VariantSpawnIndex<FireflyColor> SPAWN_INDEX = VariantSpawnIndex.create(WilderWildRegistries.FIREFLY_COLOR, FireflyColor::biomes);
 
 	private static final List<String> VANILLA_FIREFLY_COLORS = ImmutableList.<String>builder()
 		.add(WWConstants.string("on"))
@@ -88,16 +89,11 @@ public final class FireflyColors {
 	}
 
 	public static Holder<FireflyColor> getSpawnVariant(@NotNull RegistryAccess registryAccess, Holder<Biome> holder, RandomSource random) {
-		Registry<FireflyColor> registry = registryAccess.registryOrThrow(WilderWildRegistries.FIREFLY_COLOR);
-		List<Holder.Reference<FireflyColor>> colors = registry.holders()
-			.filter(reference -> (reference.value()).biomes().contains(holder))
-			.toList();
+		Holder<FireflyColor> spawnVariant = SPAWN_INDEX.getRandomVariant(registryAccess, holder, random);
+		if (spawnVariant != null) return spawnVariant;
 
-		if (!colors.isEmpty()) {
-			return Util.getRandom(colors, random);
-		} else {
-			return registry.getHolder(DEFAULT).orElse(registry.getRandom(random).orElseThrow());
-		}
+		Registry<FireflyColor> registry = registryAccess.registryOrThrow(WilderWildRegistries.FIREFLY_COLOR);
+		return registry.getHolder(DEFAULT).orElse(registry.getRandom(random).orElseThrow());
 	}
 
 	@Contract(pure = true)
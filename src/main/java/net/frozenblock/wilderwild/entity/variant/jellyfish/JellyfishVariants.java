@@ -18,12 +18,11 @@
 
 package net.frozenblock.wilderwild.entity.variant.jellyfish;
 
-import java.util.List;
 import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.entity.variant.VariantSpawnIndex;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
 import net.frozenblock.wilderwild.tag.WWBiomeTags;
 import net.frozenblock.wilderwild.tag.WWItemTags;
-import net.minecraft.Util;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
@@ -46,6 +45,7 @@ public final class JellyfishVariants {
 	public static final ResourceKey<JellyfishVariant> PEARLESCENT_BLUE = createKey("pearlescent_blue");
 	public static final ResourceKey<JellyfishVariant> PEARLESCENT_PURPLE = createKey("pearlescent_purple");
 	public static final ResourceKey<JellyfishVariant> DEFAULT = PINK;
+	private static final VariantSpawnIndex<JellyfishVariant> SPAWN_INDEX = VariantSpawnIndex.create(WilderWildRegistries.JELLYFISH_VARIANT, JellyfishVariant::biomes);
 
 	private static @NotNull ResourceKey<JellyfishVariant> createKey(String string) {
 		return ResourceKey.create(WilderWildRegistries.JELLYFISH_VARIANT, WWConstants.id(string));
@@ -72,16 +72,11 @@ public final class JellyfishVariants {
 	}
 
 	public static Holder<JellyfishVariant> getSpawnVariant(@NotNull RegistryAccess registryAccess, Holder<Biome> holder, RandomSource random) {
-		Registry<JellyfishVariant> registry = registryAccess.registryOrThrow(WilderWildRegistries.JELLYFISH_VARIANT);
-		List<Holder.Reference<JellyfishVariant>> variants = registry.holders()
-			.filter(reference -> (reference.value()).biomes().contains(holder))
-			.toList();
+		Holder<JellyfishVariant> spawnVariant = SPAWN_INDEX.getRandomVariant(registryAccess, holder, random);
+		if (spawnVariant != null) return spawnVariant;
 
-		if (!variants.isEmpty()) {
-			return Util.getRandom(variants, random);
-		} else {
-			return registry.getHolder(DEFAULT).orElse(registry.getRandom(random).orElseThrow());
-		}
+		Registry<JellyfishVariant> registry = registryAccess.registryOrThrow(WilderWildRegistries.JELLYFISH_VARIANT);
+		return registry.getHolder(DEFAULT).orElse(registry.getRandom(random).orElseThrow());
 	}
 
 	public static void bootstrap(BootstrapContext<JellyfishVariant> bootstrapContext) {
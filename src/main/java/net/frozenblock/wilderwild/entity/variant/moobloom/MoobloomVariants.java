@@ -18,12 +18,11 @@
 
 package net.frozenblock.wilderwild.entity.variant.moobloom;
 
-import java.util.List;
 import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.entity.variant.VariantSpawnIndex;
 import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
 import net.frozenblock.wilderwild.tag.WWBiomeTags;
-import net.minecraft.Util;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
@@ -55,6 +54,7 @@ public final class MoobloomVariants {
 	public static final ResourceKey<MoobloomVariant> MARIGOLD = createKey("marigold");
 	public static final ResourceKey<MoobloomVariant> PASQUEFLOWER = createKey("pasqueflower");
 	public static final ResourceKey<MoobloomVariant> DEFAULT = DANDELION;
+	private static final VariantSpawnIndex<MoobloomVariant> SPAWN_INDEX = VariantSpawnIndex.create(WilderWildRegistries.MOOBLOOM_VARIANT, MoobloomVariant::biomes);
 
 	private static @NotNull ResourceKey<MoobloomVariant> createKey(String string) {
 		return ResourceKey.create(WilderWildRegistries.MOOBLOOM_VARIANT, WWConstants.id(string));
@@ -79,16 +79,11 @@ public final class MoobloomVariants {
 	}
 
 	public static Holder<MoobloomVariant> getSpawnVariant(@NotNull RegistryAccess registryAccess, Holder<Biome> holder, RandomSource random) {
-		Registry<MoobloomVariant> registry = registryAccess.registryOrThrow(WilderWildRegistries.MOOBLOOM_VARIANT);
-		List<Holder.Reference<MoobloomVariant>> variants = registry.holders()
-			.filter(reference -> (reference.value()).biomes().contains(holder))
-			.toList();
+		Holder<MoobloomVariant> spawnVariant = SPAWN_INDEX.getRandomVariant(registryAccess, holder, random);
+		if (spawnVariant != null) return spawnVariant;
 
-		if (!variants.isEmpty()) {
-			return Util.getRandom(variants, random);
-		} else {
-			return registry.getRandom(random).orElseThrow();
-		}
+		Registry<MoobloomVariant> registry = registryAccess.registryOrThrow(WilderWildRegistries.MOOBLOOM_VARIANT);
+		return registry.getRandom(random).orElseThrow();
 	}
 
 	public static void bootstrap(BootstrapContext<MoobloomVariant> bootstrapContext) {
@@ -21,6 +21,7 @@ package net.frozenblock.wilderwild.mixin.block.mesoglea;
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import net.frozenblock.wilderwild.block.MesogleaBlock;
+import net.frozenblock.wilderwild.block.impl.MesogleaSections;
 import net.frozenblock.wilderwild.entity.impl.InMesogleaInterface;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.Entity;
@@ -49,6 +50,10 @@ public interface BlockGetterMixin {
 		if (context.collisionContext instanceof EntityCollisionContext entityCollisionContext) {
 			Entity entity = entityCollisionContext.getEntity();
 			if (entity instanceof InMesogleaInterface inMesogleaInterface) {
+				if (!MesogleaSections.mayClipThroughMesoglea((BlockGetter) this, context.getFrom(), context.getTo())) {
+					inMesogleaInterface.wilderWild$setClipInMesoglea(false);
+					return;
+				}
 				BlockState eyeState = getBlockState(BlockPos.containing(entity.getEyePosition()));
 				if (eyeState != null) {
 					inMesogleaInterface.wilderWild$setClipInMesoglea(
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.mixin.block.mesoglea;
+
+import net.frozenblock.wilderwild.block.MesogleaBlock;
+import net.frozenblock.wilderwild.block.impl.MesogleaSectionInterface;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(LevelChunkSection.class)
+public class LevelChunkSectionMixin implements MesogleaSectionInterface {
+
+	@Shadow
+	@Final
+	private PalettedContainer<BlockState> states;
+
+	@Unique
+	private int wilderWild$mesogleaCount;
+
+	@Inject(method = "setBlockState(IIILnet/minecraft/world/level/block/state/BlockState;Z)Lnet/minecraft/world/level/block/state/BlockState;", at = @At("RETURN"))
+	public void wilderWild$updateMesogleaCount(int x, int y, int z, BlockState state, boolean useLocks, CallbackInfoReturnable<BlockState> info) {
+		boolean wasMesoglea = info.getReturnValue().getBlock() instanceof MesogleaBlock;
+		boolean isMesoglea = state.getBlock() instanceof MesogleaBlock;
+		if (wasMesoglea != isMesoglea) {
+			this.wilderWild$mesogleaCount += isMesoglea ? 1 : -1;
+		}
+	}
+
+	@Inject(method = "recalcBlockCounts", at = @At("TAIL"))
+	public void wilderWild$recalcMesogleaCount(CallbackInfo info) {
+		this.wilderWild$countMesoglea();
+	}
+
+	@Inject(method = "read", at = @At("TAIL"))
+	public void wilderWild$readMesogleaCount(FriendlyByteBuf buffer, CallbackInfo info) {
+		this.wilderWild$countMesoglea();
+	}
+
+	@Unique
+	private void wilderWild$countMesoglea() {
+		int[] mesogleaCount = new int[1];
+		this.states.count((state, count) -> {
+			if (state.getBlock() instanceof MesogleaBlock) mesogleaCount[0] += count;
+		});
+		this.wilderWild$mesogleaCount = mesogleaCount[0];
+	}
+
+	@Unique
+	@Override
+	public boolean wilderWild$hasMesoglea() {
+		return this.wilderWild$mesogleaCount > 0;
+	}
+
+}
@@ -30,6 +30,7 @@ import net.fabricmc.api.Environment;
 import net.frozenblock.wilderwild.client.animation.definitions.WWWardenAnimation;
 import net.frozenblock.wilderwild.client.animation.definitions.impl.WilderWarden;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.frozenblock.wilderwild.config.WWRuntimeFlags;
 import net.frozenblock.wilderwild.entity.impl.SwimmingWardenInterface;
 import net.minecraft.client.animation.AnimationDefinition;
 import net.minecraft.client.model.HierarchicalModel;
@@ -163,7 +164,7 @@ public abstract class WardenModelMixin<T extends Warden> extends HierarchicalMod
 		@Share("wilderWild$swimAmount") LocalFloatRef wilderWild$swimAmount,
 		@Share("wilderWild$wadeAmount") LocalFloatRef wilderWild$wadeAmount
 	) {
-		if (WWEntityConfig.WARDEN_SWIMS && WWEntityConfig.Client.WARDEN_SWIM_ANIMATION && warden instanceof SwimmingWardenInterface swimmingWardenInterface) {
+		if (WWRuntimeFlags.get().wardenSwims() && WWEntityConfig.Client.WARDEN_SWIM_ANIMATION && warden instanceof SwimmingWardenInterface swimmingWardenInterface) {
 			float tickDelta = animationProgress - warden.tickCount;
 			float swimAmount = warden.getSwimAmount(tickDelta);
 			float wadeProgress = swimmingWardenInterface.wilderWild$getWadingProgress(tickDelta);
@@ -20,13 +20,12 @@ package net.frozenblock.wilderwild.mixin.client.wind;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.client.impl.ClientWindManager;
-import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.BaseAshSmokeParticle;
 import net.minecraft.client.particle.TextureSheetParticle;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -35,17 +34,20 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(BaseAshSmokeParticle.class)
 public abstract class BaseAshSmokeParticleMixin extends TextureSheetParticle {
 
+	@Unique
+	private static final double[] wilderWild$wind = new double[3];
+
 	protected BaseAshSmokeParticleMixin(ClientLevel clientLevel, double d, double e, double f) {
 		super(clientLevel, d, e, f);
 	}
 
 	@Inject(method = "tick", at = @At("HEAD"))
 	public void wilderWild$tick(CallbackInfo info) {
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1.5D, 7D, 5D)
-			.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-		this.xd += wind.x * 0.0005D;
-		this.yd += wind.y * 0.000001D;
-		this.zd += wind.z * 0.0005D;
+		double[] wind = wilderWild$wind;
+		WindFieldCache.PARTICLES.sampleParticleWindInto(this.x, this.y, this.z, wind);
+		this.xd += wind[0] * 0.0005D;
+		this.yd += wind[1] * 0.000001D;
+		this.zd += wind[2] * 0.0005D;
 	}
 
 }
@@ -21,20 +21,17 @@ package net.frozenblock.wilderwild.mixin.client.wind;
 import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
-import com.llamalad7.mixinextras.sugar.Share;
-import com.llamalad7.mixinextras.sugar.ref.LocalRef;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.client.impl.ClientWindManager;
-import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.CherryParticle;
 import net.minecraft.client.particle.SpriteSet;
 import net.minecraft.client.particle.TextureSheetParticle;
 import net.minecraft.util.Mth;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Constant;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -45,6 +42,9 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(CherryParticle.class)
 public abstract class CherryParticleMixin extends TextureSheetParticle {
 
+	@Unique
+	private static final double[] wilderWild$wind = new double[3];
+
 	protected CherryParticleMixin(ClientLevel world, double d, double e, double f) {
 		super(world, d, e, f);
 	}
@@ -62,16 +62,10 @@ public abstract class CherryParticleMixin extends TextureSheetParticle {
 			target = "Ljava/lang/Math;cos(D)D"
 		)
 	)
-	public double wilderWild$fixMoveA(
-		double original,
-		@Share("wilderWild$wind") LocalRef<Vec3> wind
-	) {
-		wind.set(Vec3.ZERO);
+	public double wilderWild$fixMoveA(double original) {
 		if (WWClientWindManager.shouldUseWind()) {
-			Vec3 currentWind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 2.5D, 7D, 5D)
-				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-			wind.set(currentWind);
-			return currentWind.x;
+			WindFieldCache.CHERRY_LEAVES.sampleParticleWindInto(this.x, this.y, this.z, wilderWild$wind);
+			return wilderWild$wind[0];
 		}
 		return original;
 	}
@@ -83,12 +77,9 @@ public abstract class CherryParticleMixin extends TextureSheetParticle {
 			target = "Ljava/lang/Math;sin(D)D"
 		)
 	)
-	public double wilderWild$fixMoveB(
-		double original,
-		@Share("wilderWild$wind") LocalRef<Vec3> wind
-	) {
+	public double wilderWild$fixMoveB(double original) {
 		if (WWClientWindManager.shouldUseWind()) {
-			return wind.get().z;
+			return wilderWild$wind[2];
 		}
 		return original;
 	}
@@ -101,11 +92,10 @@ public abstract class CherryParticleMixin extends TextureSheetParticle {
 		)
 	)
 	public void wilderWild$fixMoveC(
-		CherryParticle instance, double x, double y, double z, Operation<Void> original,
-		@Share("wilderWild$wind") LocalRef<Vec3> wind
+		CherryParticle instance, double x, double y, double z, Operation<Void> original
 	) {
 		if (WWClientWindManager.shouldUseWind()) {
-			y = (this.yd - this.gravity) + wind.get().y * 0.00001D;
+			y = (this.yd - this.gravity) + wilderWild$wind[1] * 0.00001D;
 		}
 		original.call(instance, x, y, z);
 	}
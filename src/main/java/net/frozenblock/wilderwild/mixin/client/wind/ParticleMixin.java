@@ -20,17 +20,16 @@ package net.frozenblock.wilderwild.mixin.client.wind;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.client.impl.ClientWindManager;
-import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.impl.WilderDripSuspendedParticleInterface;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.material.FluidState;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -39,6 +38,9 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 @Mixin(Particle.class)
 public abstract class ParticleMixin {
 
+	@Unique
+	private static final double[] wilderWild$wind = new double[3];
+
 	@Shadow
 	@Final
 	protected ClientLevel level;
@@ -64,11 +66,11 @@ public abstract class ParticleMixin {
 				if (!fluidState.isEmpty() && (fluidState.getHeight(this.level, blockPos) + blockPos.getY()) >= this.y) {
 					return;
 				}
-				Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1.5D, 7D, 5D)
-					.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-				this.xd += wind.x * 0.001D;
-				this.yd += wind.y * 0.00005D;
-				this.zd += wind.z * 0.001D;
+				double[] wind = wilderWild$wind;
+				WindFieldCache.PARTICLES.sampleParticleWindInto(this.x, this.y, this.z, wind);
+				this.xd += wind[0] * 0.001D;
+				this.yd += wind[1] * 0.00005D;
+				this.zd += wind[2] * 0.001D;
 			}
 		}
 	}
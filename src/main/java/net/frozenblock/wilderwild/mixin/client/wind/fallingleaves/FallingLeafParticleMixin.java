@@ -24,16 +24,15 @@ import com.llamalad7.mixinextras.sugar.ref.LocalBooleanRef;
 import com.llamalad7.mixinextras.sugar.ref.LocalDoubleRef;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.client.impl.ClientWindManager;
-import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.TextureSheetParticle;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -44,6 +43,9 @@ import randommcsomethin.fallingleaves.particle.FallingLeafParticle;
 @Mixin(FallingLeafParticle.class)
 public abstract class FallingLeafParticleMixin extends TextureSheetParticle {
 
+	@Unique
+	private static final double[] wilderWild$wind = new double[3];
+
 	@Shadow(remap = false)
 	@Final
 	protected float windCoefficient;
@@ -68,10 +70,10 @@ public abstract class FallingLeafParticleMixin extends TextureSheetParticle {
 	) {
 		if (WWClientWindManager.shouldUseWind()) {
 			wilderWild$useWind.set(true);
-			Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
-				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-			wilderWild$windZ.set(wind.z);
-			return (float) wind.x * 0.6F;
+			double[] wind = wilderWild$wind;
+			WindFieldCache.LIGHT_PARTICLES.sampleParticleWindInto(this.x, this.y, this.z, wind);
+			wilderWild$windZ.set(wind[2]);
+			return (float) wind[0] * 0.6F;
 		}
 		return original;
 	}
@@ -106,10 +108,10 @@ public abstract class FallingLeafParticleMixin extends TextureSheetParticle {
 		require = 0
 	)
 	public void wilderWild$continueInWater(CallbackInfo info) {
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
-			.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity()).scale(0.075D);
-		this.xd += (wind.x - this.xd) * (double)this.windCoefficient / 60D;
-		this.zd += (wind.z - this.zd) * (double)this.windCoefficient / 60D;
+		double[] wind = wilderWild$wind;
+		WindFieldCache.LIGHT_PARTICLES.sampleParticleWindInto(this.x, this.y, this.z, wind);
+		this.xd += (wind[0] * 0.075D - this.xd) * (double)this.windCoefficient / 60D;
+		this.zd += (wind[2] * 0.075D - this.zd) * (double)this.windCoefficient / 60D;
 	}
 
 }
@@ -23,13 +23,13 @@ import com.llamalad7.mixinextras.sugar.ref.LocalDoubleRef;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.wind.client.impl.ClientWindManager;
-import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.SpriteSet;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.Constant;
 import org.spongepowered.asm.mixin.injection.ModifyConstant;
 import pigcart.particlerain.particle.DustMoteParticle;
@@ -40,6 +40,9 @@ import pigcart.particlerain.particle.WeatherParticle;
 @Mixin(DustMoteParticle.class)
 public abstract class DustMoteParticleMixin extends WeatherParticle {
 
+	@Unique
+	private static final double[] wilderWild$wind = new double[3];
+
 	protected DustMoteParticleMixin(ClientLevel level, double x, double y, double z, float gravity, SpriteSet provider) {
 		super(level, x, y, z, gravity, provider);
 	}
@@ -54,10 +57,10 @@ public abstract class DustMoteParticleMixin extends WeatherParticle {
 		@Share("wilderWild$windZ")LocalDoubleRef windZ
 	) {
 		if (WWClientWindManager.shouldUseWind()) {
-			Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
-				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-			windZ.set(wind.z);
-			return this.xd + (wind.x * 0.005D);
+			double[] wind = wilderWild$wind;
+			WindFieldCache.LIGHT_PARTICLES.sampleParticleWindInto(this.x, this.y, this.z, wind);
+			windZ.set(wind[2]);
+			return this.xd + (wind[0] * 0.005D);
 		}
 		return constant;
 	}
@@ -24,13 +24,13 @@ import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.wind.client.impl.ClientWindManager;
-import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.SpriteSet;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -43,6 +43,9 @@ import pigcart.particlerain.particle.WeatherParticle;
 @Mixin(SnowFlakeParticle.class)
 public abstract class SnowFlakeParticleMixin extends WeatherParticle {
 
+	@Unique
+	private static final double[] wilderWild$wind = new double[3];
+
 	protected SnowFlakeParticleMixin(ClientLevel level, double x, double y, double z, float gravity, SpriteSet provider) {
 		super(level, x, y, z, gravity, provider);
 	}
@@ -113,11 +116,11 @@ public abstract class SnowFlakeParticleMixin extends WeatherParticle {
 
 	@Inject(method = "tick", at = @At("HEAD"), require = 0)
 	public void wilderWild$tick(CallbackInfo info) {
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1.5D, 7D, 5D)
-			.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-		this.xd += wind.x * 0.05D;
-		this.yd += wind.y * 0.005D;
-		this.zd += wind.z * 0.05D;
+		double[] wind = wilderWild$wind;
+		WindFieldCache.PARTICLES.sampleParticleWindInto(this.x, this.y, this.z, wind);
+		this.xd += wind[0] * 0.05D;
+		this.yd += wind[1] * 0.005D;
+		this.zd += wind[2] * 0.05D;
 	}
 
 }
@@ -18,8 +18,6 @@
 
 package net.frozenblock.wilderwild.mixin.entity.lightning;
 
-import com.llamalad7.mixinextras.sugar.Share;
-import com.llamalad7.mixinextras.sugar.ref.LocalRef;
 import net.frozenblock.wilderwild.block.ScorchedBlock;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
@@ -46,25 +44,17 @@ public class LightningBoltMixin {
 	private boolean visualOnly;
 
 	@Unique
-	private int wilderWild$age = 0;
+	private boolean wilderWild$sentStrike;
 
 	@Inject(method = "tick", at = @At(value = "HEAD"))
-	private void wilderWild$tick(
-		CallbackInfo info,
-		@Share("wilderWild$strikePos") LocalRef<BlockPos> strikePosLocalRef,
-		@Share("wilderWild$strikeState") LocalRef<BlockState> strikeStateLocalRef
-	) {
-		if (LightningBolt.class.cast(this).level() instanceof ServerLevel serverLevel) {
-			BlockPos blockPos = this.getStrikePosition();
-			BlockState state = serverLevel.getBlockState(blockPos);
-			WWLightningStrikePacket.sendToAll(
+	private void wilderWild$tick(CallbackInfo info) {
+		if (!this.wilderWild$sentStrike && LightningBolt.class.cast(this).level() instanceof ServerLevel serverLevel) {
+			this.wilderWild$sentStrike = true;
+			WWLightningStrikePacket.queue(
 				LightningBolt.class.cast(this),
-				state,
-				this.wilderWild$age
+				serverLevel.getBlockState(this.getStrikePosition()),
+				serverLevel.getRandom().nextLong()
 			);
-			this.wilderWild$age += 1;
-			strikePosLocalRef.set(blockPos);
-			strikeStateLocalRef.set(state);
 		}
 	}
 
@@ -75,12 +65,10 @@ public class LightningBoltMixin {
 			target = "Lnet/minecraft/world/entity/LightningBolt;spawnFire(I)V"
 		)
 	)
-	private void wilderWild$scorchTheSand(
-		CallbackInfo info,
-		@Share("wilderWild$strikePos") LocalRef<BlockPos> strikePosLocalRef,
-		@Share("wilderWild$strikeState") LocalRef<BlockState> strikeStateLocalRef
-	) {
-		this.wilderWild$scorchSand(LightningBolt.class.cast(this), strikePosLocalRef.get(), strikeStateLocalRef.get());
+	private void wilderWild$scorchTheSand(CallbackInfo info) {
+		LightningBolt bolt = LightningBolt.class.cast(this);
+		BlockPos strikePos = this.getStrikePosition();
+		this.wilderWild$scorchSand(bolt, strikePos, bolt.level().getBlockState(strikePos));
 	}
 
 	@Unique
@@ -24,8 +24,9 @@ import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import com.llamalad7.mixinextras.sugar.Share;
 import com.llamalad7.mixinextras.sugar.ref.LocalRef;
 import net.frozenblock.wilderwild.block.ScorchedBlock;
-import net.frozenblock.wilderwild.block.entity.ScorchedBlockEntity;
+import net.frozenblock.wilderwild.block.impl.ScorchedBrushingTable;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.EquipmentSlot;
@@ -34,7 +35,6 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.BrushItem;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
 import org.jetbrains.annotations.NotNull;
@@ -113,11 +113,10 @@ public class BrushItemMixin {
 	private boolean wilderWild$brushScorchedBlocks(
 		@NotNull Level level, LivingEntity livingEntity, @NotNull ItemStack stack, BlockHitResult hitResult, BlockState blockState
 	) {
-		if (!level.isClientSide() && livingEntity instanceof Player player) {
-			BlockPos blockPos = hitResult.getBlockPos();
-			BlockEntity blockEntity = level.getBlockEntity(blockPos);
-			if (blockEntity instanceof ScorchedBlockEntity scorchedBlockEntity && blockState.getBlock() instanceof ScorchedBlock scorchedBlock && scorchedBlock.canBrush) {
-				boolean shouldDegrade = scorchedBlockEntity.brush(level.getGameTime());
+		if (level instanceof ServerLevel serverLevel && livingEntity instanceof Player player) {
+			if (blockState.getBlock() instanceof ScorchedBlock scorchedBlock && scorchedBlock.canBrush) {
+				BlockPos blockPos = hitResult.getBlockPos();
+				boolean shouldDegrade = ScorchedBrushingTable.get(serverLevel).brush(serverLevel, blockPos, blockState);
 				if (shouldDegrade) {
 					EquipmentSlot equipmentSlot = stack.equals(player.getItemBySlot(EquipmentSlot.OFFHAND)) ? EquipmentSlot.OFFHAND : EquipmentSlot.MAINHAND;
 					stack.hurtAndBreak(1, livingEntity, equipmentSlot);
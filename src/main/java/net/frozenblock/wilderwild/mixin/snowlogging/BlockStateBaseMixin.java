@@ -24,6 +24,8 @@ import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import java.util.ArrayList;
 import java.util.List;
+import net.frozenblock.wilderwild.block.impl.SnowloggedStateCache;
+import net.frozenblock.wilderwild.block.impl.SnowloggedStateInterface;
 import net.frozenblock.wilderwild.block.impl.SnowloggingUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -48,21 +50,38 @@ import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
-import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(BlockBehaviour.BlockStateBase.class)
-public abstract class BlockStateBaseMixin {
+public abstract class BlockStateBaseMixin implements SnowloggedStateInterface {
+	@Unique
+	@Nullable
+	private SnowloggedStateCache wilderWild$snowloggedCache;
 
 	@Shadow
 	protected abstract BlockState asState();
 
+	@Unique
+	@NotNull
+	@Override
+	public SnowloggedStateCache wilderWild$getSnowloggedCache() {
+		SnowloggedStateCache cache = this.wilderWild$snowloggedCache;
+		if (cache == null) {
+			cache = new SnowloggedStateCache(SnowloggingUtils.createSnowEquivalent(this.asState()));
+			this.wilderWild$snowloggedCache = cache;
+		}
+		return cache;
+	}
+
 	@ModifyReturnValue(
 		method = "getCollisionShape(Lnet/minecraft/world/level/BlockGetter;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/phys/shapes/CollisionContext;)Lnet/minecraft/world/phys/shapes/VoxelShape;",
 		at = @At("RETURN")
@@ -70,7 +89,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getCollisionShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getCollisionShape(level, pos, context));
+			return SnowloggingUtils.getSnowloggedCache(blockState).mergeCollisionShape(original);
 		}
 		return original;
 	}
@@ -82,7 +101,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return SnowloggingUtils.getSnowEquivalent(blockState).getShape(level, pos, context);
+			return SnowloggingUtils.getSnowloggedCache(blockState).shape();
 		}
 		return original;
 	}
@@ -91,7 +110,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getVisualShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getVisualShape(level, pos, context));
+			return SnowloggingUtils.getSnowloggedCache(blockState).mergeVisualShape(original);
 		}
 		return original;
 	}
@@ -100,7 +119,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getInteractionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getInteractionShape(level, pos));
+			return SnowloggingUtils.getSnowloggedCache(blockState).mergeInteractionShape(original);
 		}
 		return original;
 	}
@@ -109,7 +128,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getBlockSupportShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getBlockSupportShape(level, pos));
+			return SnowloggingUtils.getSnowloggedCache(blockState).mergeBlockSupportShape(original);
 		}
 		return original;
 	}
@@ -118,7 +137,7 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getOcclusionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getOcclusionShape(level, pos));
+			return SnowloggingUtils.getSnowloggedCache(blockState).mergeOcclusionShape(original);
 		}
 		return original;
 	}
@@ -272,7 +291,7 @@ public abstract class BlockStateBaseMixin {
 	)
 	public SoundType wilderWild$getSoundType(Block instance, BlockState blockState, Operation<SoundType> original) {
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return SnowloggingUtils.getSnowEquivalent(blockState).getSoundType();
+			return SnowloggingUtils.getSnowloggedCache(blockState).soundType();
 		}
 		return original.call(instance, blockState);
 	}
@@ -23,22 +23,17 @@ import com.llamalad7.mixinextras.sugar.Local;
 import java.util.function.Consumer;
 import net.frozenblock.wilderwild.block.EchoGlassBlock;
 import net.frozenblock.wilderwild.client.animation.definitions.impl.WilderWarden;
+import net.frozenblock.wilderwild.entity.impl.SonicBoomOcclusion;
 import net.frozenblock.wilderwild.entity.impl.WilderSonicBoom;
-import net.frozenblock.wilderwild.registry.WWBlocks;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.ai.behavior.warden.SonicBoom;
 import net.minecraft.world.entity.monster.warden.Warden;
-import net.minecraft.world.level.ClipBlockStateContext;
-import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.BlockHitResult;
-import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -57,6 +52,9 @@ public class SonicBoomMixin implements WilderSonicBoom {
 	@Unique
 	private static SonicBoom wilderWild$currentBoom;
 	@Unique
+	@Nullable
+	private static SonicBoomOcclusion wilderWild$currentOcclusion;
+	@Unique
 	private boolean wilderWild$particlesEnded = false;
 
 	@ModifyVariable(method = "method_43265",
@@ -79,10 +77,9 @@ public class SonicBoomMixin implements WilderSonicBoom {
 		)
 	)
 	private static void wilderWild$stopParticles(Warden warden, ServerLevel serverLevel, LivingEntity livingEntity, CallbackInfo info,
-		@Local(ordinal = 0) Vec3 vec3, @Local(ordinal = 3) Vec3 vec34
+		@Local(ordinal = 0) Vec3 vec3, @Local(ordinal = 2) Vec3 vec33, @Local(ordinal = 0) int particleEnd, @Local(ordinal = 1) int step
 	) {
-		BlockPos hitPos = wilderWild$isOccluded(serverLevel, vec3, vec34);
-		if (hitPos != null) {
+		if (wilderWild$getOcclusion(serverLevel, vec3, vec33, particleEnd).isOccludedAt(step)) {
 			((WilderSonicBoom) wilderWild$currentBoom).wilderWild$endParticles();
 		}
 	}
@@ -99,16 +96,13 @@ public class SonicBoomMixin implements WilderSonicBoom {
 		Warden warden, ServerLevel level, LivingEntity livingEntity, CallbackInfo info,
 		@Local(ordinal = 0) Vec3 vec3, @Local(ordinal = 1) Vec3 vec32, @Local(ordinal = 2) Vec3 vec33
 	) {
-		for (int i = 1; i < Mth.floor(vec32.length()) + 7; ++i) {
-			Vec3 vec34 = vec3.add(vec33.scale(i));
-			BlockPos hitPos = wilderWild$isOccluded(level, vec3, vec34);
-			if (hitPos != null) {
-				i = Mth.floor(vec32.length()) + 10;
-				info.cancel();
-				BlockState hitState = level.getBlockState(hitPos);
-				if (hitState.getBlock() instanceof EchoGlassBlock) {
-					EchoGlassBlock.damage(level, hitPos, hitState, false);
-				}
+		SonicBoomOcclusion occlusion = wilderWild$getOcclusion(level, vec3, vec33, Mth.floor(vec32.length()) + 7);
+		BlockPos hitPos = occlusion.getHitPos();
+		if (occlusion.isOccluded() && hitPos != null) {
+			info.cancel();
+			BlockState hitState = level.getBlockState(hitPos);
+			if (hitState.getBlock() instanceof EchoGlassBlock) {
+				EchoGlassBlock.damage(level, hitPos, hitState, false);
 			}
 		}
 	}
@@ -126,26 +120,14 @@ public class SonicBoomMixin implements WilderSonicBoom {
 	}
 
 	@Unique
-	@Nullable
-	private static BlockPos wilderWild$isOccluded(@NotNull Level level, @NotNull Vec3 start, @NotNull Vec3 end) {
-		Vec3 vec3d = new Vec3((double) Mth.floor(start.x) + 0.5D, (double) Mth.floor(start.y) + 0.5D, (double) Mth.floor(start.z) + 0.5D);
-		Vec3 vec3d2 = new Vec3((double) Mth.floor(end.x) + 0.5D, (double) Mth.floor(end.y) + 0.5D, (double) Mth.floor(end.z) + 0.5D);
-		BlockPos hitPos = null;
-		boolean blocked = true;
-		for (Direction direction : Direction.values()) {
-			Vec3 vec3d3 = vec3d.relative(direction, 9.999999747378752E-6D);
-			BlockHitResult hit = level.isBlockInLine(new ClipBlockStateContext(vec3d3, vec3d2, (state) -> state.is(WWBlocks.ECHO_GLASS)));
-			if (hit.getType() != HitResult.Type.BLOCK) {
-				blocked = false;
-			} else {
-				hitPos = hit.getBlockPos();
-			}
-		}
-		if (blocked) {
-			return hitPos;
-		} else {
-			return null;
+	@NotNull
+	private static SonicBoomOcclusion wilderWild$getOcclusion(@NotNull ServerLevel level, @NotNull Vec3 origin, @NotNull Vec3 direction, int stepCount) {
+		SonicBoomOcclusion occlusion = wilderWild$currentOcclusion;
+		if (occlusion == null) {
+			occlusion = SonicBoomOcclusion.trace(level, origin, direction, stepCount);
+			wilderWild$currentOcclusion = occlusion;
 		}
+		return occlusion;
 	}
 
 	@ModifyArg(
@@ -159,6 +141,7 @@ public class SonicBoomMixin implements WilderSonicBoom {
 	private Consumer<? super LivingEntity> wilderWild$setCurrent(Consumer<? super LivingEntity> original) {
 		return target -> {
 			wilderWild$currentBoom = SonicBoom.class.cast(this);
+			wilderWild$currentOcclusion = null;
 			original.accept(target);
 		};
 	}
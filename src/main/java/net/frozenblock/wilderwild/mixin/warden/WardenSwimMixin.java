@@ -19,7 +19,7 @@
 package net.frozenblock.wilderwild.mixin.warden;
 
 import java.util.Optional;
-import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.frozenblock.wilderwild.config.WWRuntimeFlags;
 import net.frozenblock.wilderwild.entity.ai.warden.WardenLookControl;
 import net.frozenblock.wilderwild.entity.ai.warden.WardenMoveControl;
 import net.frozenblock.wilderwild.entity.ai.warden.WardenNavigation;
@@ -109,7 +109,7 @@ public abstract class WardenSwimMixin extends Monster implements SwimmingWardenI
 	@Override
 	public void travel(@NotNull Vec3 travelVector) {
 		Warden warden = Warden.class.cast(this);
-		if (this.isEffectiveAi() && this.wilderWild$isTouchingWaterOrLava() && WWEntityConfig.WARDEN_SWIMS) {
+		if (this.isEffectiveAi() && this.wilderWild$isTouchingWaterOrLava() && WWRuntimeFlags.get().wardenSwims()) {
 			this.moveRelative(this.getSpeed(), travelVector);
 			this.move(MoverType.SELF, this.getDeltaMovement());
 			this.setDeltaMovement(this.getDeltaMovement().scale(0.9));
@@ -140,23 +140,23 @@ public abstract class WardenSwimMixin extends Monster implements SwimmingWardenI
 
 	@Override
 	public boolean canBreatheUnderwater() {
-		return WWEntityConfig.WARDEN_SWIMS;
+		return WWRuntimeFlags.get().wardenSwims();
 	}
 
 	@Override
 	public boolean isPushedByFluid() {
-		return !WWEntityConfig.WARDEN_SWIMS;
+		return !WWRuntimeFlags.get().wardenSwims();
 	}
 
 	@Override
 	@NotNull
 	public SoundEvent getSwimSound() {
-		return WWEntityConfig.WARDEN_SWIMS ? WWSounds.ENTITY_WARDEN_SWIM : super.getSwimSound();
+		return WWRuntimeFlags.get().wardenSwims() ? WWSounds.ENTITY_WARDEN_SWIM : super.getSwimSound();
 	}
 
 	@Override
 	public void jumpInLiquid(@NotNull TagKey<Fluid> fluid) {
-		if (WWEntityConfig.WARDEN_SWIMS && (this.getBrain().hasMemoryValue(MemoryModuleType.ROAR_TARGET) || this.getBrain().hasMemoryValue(MemoryModuleType.ATTACK_TARGET))) {
+		if (WWRuntimeFlags.get().wardenSwims() && (this.getBrain().hasMemoryValue(MemoryModuleType.ROAR_TARGET) || this.getBrain().hasMemoryValue(MemoryModuleType.ATTACK_TARGET))) {
 			Optional<LivingEntity> ATTACK_TARGET = this.getBrain().getMemory(MemoryModuleType.ATTACK_TARGET);
 			Optional<LivingEntity> ROAR_TARGET = this.getBrain().getMemory(MemoryModuleType.ROAR_TARGET);
 			LivingEntity target = ATTACK_TARGET.orElseGet(() -> ROAR_TARGET.orElse(null));
@@ -173,7 +173,7 @@ public abstract class WardenSwimMixin extends Monster implements SwimmingWardenI
 
 	@Override
 	protected boolean updateInWaterStateAndDoFluidPushing() {
-		if (WWEntityConfig.WARDEN_SWIMS) {
+		if (WWRuntimeFlags.get().wardenSwims()) {
 			Warden warden = Warden.class.cast(this);
 			this.fluidHeight.clear();
 			warden.updateInWaterStateAndDoWaterCurrentPushing();
@@ -21,9 +21,9 @@ package net.frozenblock.wilderwild.networking;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
-import net.frozenblock.lib.math.api.AdvancedMath;
 import net.frozenblock.wilderwild.block.entity.StoneChestBlockEntity;
-import net.frozenblock.wilderwild.config.WWEntityConfig;
+import net.frozenblock.wilderwild.block.impl.ChestUtil;
+import net.frozenblock.wilderwild.client.LightningStrikeEffects;
 import net.frozenblock.wilderwild.entity.Jellyfish;
 import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
 import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
@@ -31,24 +31,15 @@ import net.frozenblock.wilderwild.networking.packet.WWScorchingFirePlacePacket;
 import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
 import net.frozenblock.wilderwild.networking.packet.WWWindPacket;
 import net.frozenblock.wilderwild.registry.WWSounds;
-import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.ClientLevel;
-import net.minecraft.client.particle.Particle;
-import net.minecraft.client.particle.ParticleEngine;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.particles.BlockParticleOption;
-import net.minecraft.core.particles.ParticleOptions;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
-import org.jetbrains.annotations.NotNull;
 
 @Environment(EnvType.CLIENT)
 public final class WWClientNetworking {
@@ -89,17 +80,8 @@ public final class WWClientNetworking {
 
 	public static void receiveLightningStrikePacket() {
 		ClientPlayNetworking.registerGlobalReceiver(WWLightningStrikePacket.PACKET_TYPE, (packet, ctx) -> {
-			BlockState blockState = Block.stateById(packet.blockStateId());
-			Minecraft minecraft = Minecraft.getInstance();
-			ClientLevel clientLevel = ctx.client().level;
-			if (!blockState.isAir()) {
-				RandomSource random = clientLevel.getRandom();
-				if (WWEntityConfig.get().lightning.lightningBlockParticles) {
-					lightningBlockParticles(packet.tickCount(), packet.x(), packet.y(), packet.z(), blockState, random, minecraft.particleEngine);
-				}
-				if (WWEntityConfig.get().lightning.lightningSmokeParticles) {
-					lightningSmokeParticles(packet.tickCount(), packet.x(), packet.y(), packet.z(), blockState, random, minecraft.particleEngine);
-				}
+			for (WWLightningStrikePacket.Strike strike : packet.strikes()) {
+				LightningStrikeEffects.start(strike);
 			}
 		});
 	}
@@ -107,12 +89,16 @@ public final class WWClientNetworking {
 	public static void receiveStoneChestLidPacket() {
 		ClientPlayNetworking.registerGlobalReceiver(WWStoneChestLidPacket.PACKET_TYPE, (packet, ctx) -> {
 			ClientLevel clientLevel = ctx.client().level;
-			if (clientLevel.getBlockEntity(packet.pos()) instanceof StoneChestBlockEntity stoneChestBlockEntity) {
-				stoneChestBlockEntity.openProgress = packet.openProgress();
-				stoneChestBlockEntity.highestLidPoint = packet.highestLidPoint();
-				stoneChestBlockEntity.cooldownTicks = packet.cooldownTicks();
-				stoneChestBlockEntity.stillLidTicks = packet.stillLidTicks();
-				stoneChestBlockEntity.closing = packet.closing();
+			for (WWStoneChestLidPacket.LidUpdate update : packet.updates()) {
+				if (clientLevel.getBlockEntity(update.pos()) instanceof StoneChestBlockEntity stoneChestBlockEntity) {
+					stoneChestBlockEntity.openProgress = update.openProgress();
+					stoneChestBlockEntity.highestLidPoint = update.openProgress();
+					stoneChestBlockEntity.stillLidTicks = update.stillLidTicks();
+					stoneChestBlockEntity.closing = update.closing();
+					stoneChestBlockEntity.cooldownTicks = 0;
+					ChestUtil.getCoupledStoneChestBlockEntity(clientLevel, update.pos(), stoneChestBlockEntity.getBlockState())
+						.ifPresent(stoneChestBlockEntity::syncLidValuesAndUpdate);
+				}
 			}
 		});
 	}
@@ -144,78 +130,4 @@ public final class WWClientNetworking {
 			);
 		});
 	}
-
-	private static void lightningBlockParticles(int tickCount, double x, double y, double z, @NotNull BlockState blockState, @NotNull RandomSource random, @NotNull ParticleEngine particleEngine) {
-		if (blockState.is(WWBlockTags.NO_LIGHTNING_BLOCK_PARTICLES)) {
-			return;
-		}
-		boolean first = tickCount == 0;
-		double calmDownAge = Math.max(1, tickCount - 6D);
-		Vec3 origin = new Vec3(x, y, z);
-		int particles = first ? random.nextInt(25, 40) : random.nextInt(5, 15);
-		double rotAngle = 360D / (double) particles;
-		double angle = random.nextDouble() * 360D;
-		ParticleOptions particleOptions = new BlockParticleOption(ParticleTypes.BLOCK, blockState);
-		if (blockState.is(Blocks.WATER)) {
-			particleOptions = ParticleTypes.SPLASH;
-		} else if (blockState.is(Blocks.LAVA)) {
-			particleOptions = ParticleTypes.LAVA;
-		}
-		double speedMultiplier = first ? 1.5D : 1D;
-		double speedMultiplierY = first ? 1.13D : 1D;
-
-		for (int a = 0; a < particles; a++) {
-			Vec3 offsetPos = AdvancedMath.rotateAboutXZ(origin, 0.4D, angle + (((random.nextDouble() * rotAngle) * 0.35D) * (random.nextBoolean() ? 1D : -1D)));
-			double dirX = (offsetPos.x - origin.x) * ((random.nextFloat() * 0.6D) + 0.4D);
-			double dirZ = (offsetPos.z - origin.z) * ((random.nextFloat() * 0.6D) + 0.4D);
-
-			Particle blockParticle = particleEngine.createParticle(particleOptions, x + dirX, y, z + dirZ, 0D, 0D, 0D);
-			if (blockParticle != null) {
-				blockParticle.xd = ((dirX * 0.8D) / calmDownAge) * speedMultiplier;
-				blockParticle.yd = ((0.4D / calmDownAge) * ((random.nextFloat() * 0.4D) + 0.7D)) * speedMultiplierY;
-				blockParticle.zd = ((dirZ * 0.8D) / calmDownAge) * speedMultiplier;
-			}
-
-			if (random.nextBoolean()) {
-				Particle particle2 = particleEngine.createParticle(ParticleTypes.LARGE_SMOKE, x + dirX * 0.3D, y, z + dirZ * 0.3D, 0D, 0D, 0D);
-				if (particle2 != null) {
-					particle2.xd = ((dirX * 0.2D) / calmDownAge) * speedMultiplier;
-					particle2.yd = ((0.5D / calmDownAge) * ((random.nextFloat() * 0.4D) + 0.7D)) * speedMultiplierY;
-					particle2.zd = ((dirZ * 0.2D) / calmDownAge) * speedMultiplier;
-				}
-			}
-
-			angle += rotAngle;
-		}
-	}
-
-	private static void lightningSmokeParticles(int tickCount, double x, double y, double z, @NotNull BlockState blockState, @NotNull RandomSource random, @NotNull ParticleEngine particleEngine) {
-		if (blockState.is(WWBlockTags.NO_LIGHTNING_SMOKE_PARTICLES)) {
-			return;
-		}
-		boolean first = tickCount == 0;
-		Vec3 origin = new Vec3(x, y, z);
-		int particles = random.nextInt(2, 15);
-		double rotAngle = 360D / (double) particles;
-		double angle = random.nextDouble() * 360D;
-		double speedMultiplier = first ? 1.5D : 1D;
-		double speedMultiplierY = first ? 1.13D : 1D;
-
-		for (int a = 0; a < particles; a++) {
-			Vec3 offsetPos = AdvancedMath.rotateAboutXZ(origin, 0.4D, angle + (((random.nextDouble() * rotAngle) * 0.35D) * (random.nextBoolean() ? 1D : -1D)));
-			double dirX = (offsetPos.x - origin.x) * ((random.nextFloat() * 0.6D) + 0.4D) / (double) tickCount;
-			double dirZ = (offsetPos.z - origin.z) * ((random.nextFloat() * 0.6D) + 0.4D) / (double) tickCount;
-
-			if (random.nextBoolean()) {
-				Particle particle2 = particleEngine.createParticle(ParticleTypes.LARGE_SMOKE, x + dirX * 0.3D, y, z + dirZ * 0.3D, 0D, 0D, 0D);
-				if (particle2 != null) {
-					particle2.xd = ((dirX * 0.2D)) * speedMultiplier;
-					particle2.yd = ((0.5D / (double) tickCount) * ((random.nextFloat() * 0.4D) + 0.7D)) * speedMultiplierY;
-					particle2.zd = ((dirZ * 0.2D)) * speedMultiplier;
-				}
-			}
-
-			angle += rotAngle;
-		}
-	}
 }
@@ -18,6 +18,10 @@
 
 package net.frozenblock.wilderwild.networking.packet;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.wilderwild.WWConstants;
@@ -30,42 +34,72 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 
-public record WWLightningStrikePacket(int blockStateId, double x, double y, double z, int tickCount) implements CustomPacketPayload {
+/**
+ * Sends every lightning strike a player can see start during a tick in one packet.
+ * <p>
+ * Each strike is only sent once, when its bolt first ticks, as clients play the strike's effects for the rest of the bolt's life themselves.
+ */
+public record WWLightningStrikePacket(List<Strike> strikes) implements CustomPacketPayload {
 	public static final Type<WWLightningStrikePacket> PACKET_TYPE = new Type<>(
 		WWConstants.id("lightning_strike")
 	);
 
 	public static final StreamCodec<FriendlyByteBuf, WWLightningStrikePacket> CODEC = StreamCodec.ofMember(WWLightningStrikePacket::write, WWLightningStrikePacket::new);
 
+	private static final Map<Entity, Strike> QUEUED = new Reference2ObjectLinkedOpenHashMap<>();
+
 	public WWLightningStrikePacket(@NotNull FriendlyByteBuf buf) {
-		this(buf.readInt(), buf.readDouble(), buf.readDouble(), buf.readDouble(), buf.readVarInt());
+		this(buf.readList(Strike::new));
 	}
 
-	public static void sendToAll(@NotNull Entity entity, @NotNull BlockState blockState, int tickCount) {
-		for (ServerPlayer player : PlayerLookup.tracking(entity)) {
-			ServerPlayNetworking.send(
-				player,
-				new WWLightningStrikePacket(
-					Block.getId(blockState),
-					entity.getX(),
-					entity.getY(),
-					entity.getZ(),
-					tickCount
-				)
-			);
-		}
+	/**
+	 * Queues the strike of the given lightning bolt to be sent to every player tracking it at the end of the tick.
+	 */
+	public static void queue(@NotNull Entity entity, @NotNull BlockState blockState, long seed) {
+		QUEUED.put(
+			entity,
+			new Strike(entity.getId(), Block.getId(blockState), entity.getX(), entity.getY(), entity.getZ(), seed)
+		);
+	}
+
+	public static void sendQueued() {
+		if (QUEUED.isEmpty()) return;
+		Map<ServerPlayer, List<Strike>> strikesByPlayer = new Reference2ObjectLinkedOpenHashMap<>();
+		QUEUED.forEach((entity, strike) -> {
+			for (ServerPlayer player : PlayerLookup.tracking(entity)) {
+				strikesByPlayer.computeIfAbsent(player, ignored -> new ArrayList<>()).add(strike);
+			}
+		});
+		QUEUED.clear();
+		strikesByPlayer.forEach((player, strikes) -> ServerPlayNetworking.send(player, new WWLightningStrikePacket(strikes)));
+	}
+
+	public static void clearQueued() {
+		QUEUED.clear();
 	}
 
 	public void write(@NotNull FriendlyByteBuf buf) {
-		buf.writeInt(this.blockStateId());
-		buf.writeDouble(this.x());
-		buf.writeDouble(this.y());
-		buf.writeDouble(this.z());
-		buf.writeVarInt(this.tickCount());
+		buf.writeCollection(this.strikes, (buffer, strike) -> strike.write(buffer));
 	}
 
 	@NotNull
 	public Type<?> type() {
 		return PACKET_TYPE;
 	}
+
+	public record Strike(int entityId, int blockStateId, double x, double y, double z, long seed) {
+
+		public Strike(@NotNull FriendlyByteBuf buf) {
+			this(buf.readVarInt(), buf.readVarInt(), buf.readDouble(), buf.readDouble(), buf.readDouble(), buf.readLong());
+		}
+
+		public void write(@NotNull FriendlyByteBuf buf) {
+			buf.writeVarInt(this.entityId);
+			buf.writeVarInt(this.blockStateId);
+			buf.writeDouble(this.x);
+			buf.writeDouble(this.y);
+			buf.writeDouble(this.z);
+			buf.writeLong(this.seed);
+		}
+	}
 }
@@ -18,55 +18,96 @@
 
 package net.frozenblock.wilderwild.networking.packet;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.block.entity.StoneChestBlockEntity;
+import net.frozenblock.wilderwild.block.impl.ChestUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import org.jetbrains.annotations.NotNull;
 
-public record WWStoneChestLidPacket(BlockPos pos, float openProgress, float highestLidPoint, int cooldownTicks, int stillLidTicks, boolean closing) implements CustomPacketPayload {
+/**
+ * Sends every Stone Chest lid a player has seen lifted during a tick in one packet.
+ * <p>
+ * Clients close lids on their own, so lids are only synced when they are lifted.
+ * Double chests only send one of their halves, as clients copy the lid to the other half themselves.
+ */
+public record WWStoneChestLidPacket(List<LidUpdate> updates) implements CustomPacketPayload {
 	public static final Type<WWStoneChestLidPacket> PACKET_TYPE = new Type<>(
 		WWConstants.id("stone_chest_lid")
 	);
 
 	public static final StreamCodec<FriendlyByteBuf, WWStoneChestLidPacket> CODEC = StreamCodec.ofMember(WWStoneChestLidPacket::write, WWStoneChestLidPacket::new);
 
+	private static final ReferenceLinkedOpenHashSet<StoneChestBlockEntity> QUEUED = new ReferenceLinkedOpenHashSet<>();
+
 	public WWStoneChestLidPacket(@NotNull FriendlyByteBuf buf) {
-		this(buf.readBlockPos(), buf.readFloat(), buf.readFloat(), buf.readInt(), buf.readInt(), buf.readBoolean());
+		this(buf.readList(LidUpdate::new));
+	}
+
+	/**
+	 * Queues the lid of the given Stone Chest to be sent to every player tracking it at the end of the tick.
+	 */
+	public static void queue(@NotNull StoneChestBlockEntity blockEntity) {
+		if (!(blockEntity.getLevel() instanceof ServerLevel serverLevel)) return;
+		StoneChestBlockEntity coupledStoneChest = ChestUtil.getCoupledStoneChestBlockEntity(serverLevel, blockEntity.getBlockPos(), blockEntity.getBlockState())
+			.orElse(null);
+		if (coupledStoneChest != null && QUEUED.contains(coupledStoneChest)) return;
+		QUEUED.add(blockEntity);
 	}
 
-	public static void sendToAll(@NotNull StoneChestBlockEntity blockEntity) {
-		for (ServerPlayer player : PlayerLookup.tracking(blockEntity)) {
-			ServerPlayNetworking.send(
-				player,
-				new WWStoneChestLidPacket(
-					blockEntity.getBlockPos(),
-					blockEntity.openProgress,
-					blockEntity.highestLidPoint,
-					blockEntity.cooldownTicks,
-					blockEntity.stillLidTicks,
-					blockEntity.closing
-				)
-			);
+	public static void sendQueued() {
+		if (QUEUED.isEmpty()) return;
+		Map<ServerPlayer, List<LidUpdate>> updatesByPlayer = new Reference2ObjectLinkedOpenHashMap<>();
+		for (StoneChestBlockEntity blockEntity : QUEUED) {
+			if (blockEntity.isRemoved() || !(blockEntity.getLevel() instanceof ServerLevel)) continue;
+			LidUpdate update = new LidUpdate(blockEntity);
+			for (ServerPlayer player : PlayerLookup.tracking(blockEntity)) {
+				updatesByPlayer.computeIfAbsent(player, ignored -> new ArrayList<>()).add(update);
+			}
 		}
+		QUEUED.clear();
+		updatesByPlayer.forEach((player, updates) -> ServerPlayNetworking.send(player, new WWStoneChestLidPacket(updates)));
+	}
+
+	public static void clearQueued() {
+		QUEUED.clear();
 	}
 
 	public void write(@NotNull FriendlyByteBuf buf) {
-		buf.writeBlockPos(this.pos);
-		buf.writeFloat(this.openProgress);
-		buf.writeFloat(this.highestLidPoint);
-		buf.writeInt(this.cooldownTicks);
-		buf.writeInt(this.stillLidTicks);
-		buf.writeBoolean(this.closing);
+		buf.writeCollection(this.updates, (buffer, update) -> update.write(buffer));
 	}
 
 	@NotNull
 	public Type<?> type() {
 		return PACKET_TYPE;
 	}
+
+	public record LidUpdate(BlockPos pos, float openProgress, int stillLidTicks, boolean closing) {
+
+		public LidUpdate(@NotNull StoneChestBlockEntity blockEntity) {
+			this(blockEntity.getBlockPos(), blockEntity.openProgress, blockEntity.stillLidTicks, blockEntity.closing);
+		}
+
+		public LidUpdate(@NotNull FriendlyByteBuf buf) {
+			this(buf.readBlockPos(), buf.readFloat(), buf.readVarInt(), buf.readBoolean());
+		}
+
+		public void write(@NotNull FriendlyByteBuf buf) {
+			buf.writeBlockPos(this.pos);
+			buf.writeFloat(this.openProgress);
+			buf.writeVarInt(this.stillLidTicks);
+			buf.writeBoolean(this.closing);
+		}
+	}
 }
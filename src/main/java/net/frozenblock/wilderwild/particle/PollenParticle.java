@@ -21,9 +21,8 @@ package net.frozenblock.wilderwild.particle;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.math.api.AdvancedMath;
-import net.frozenblock.lib.wind.client.impl.ClientWindManager;
-import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.client.particle.ParticleProvider;
@@ -34,12 +33,12 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.SimpleParticleType;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.material.FluidState;
-import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 
 @Environment(EnvType.CLIENT)
 public class PollenParticle extends TextureSheetParticle {
 	public static final double WIND_INTENSITY = 0.2D;
+	private static final double[] WIND = new double[3];
 	private float prevScale = 0F;
 	private float scale = 0F;
 	private float targetScale = 0F;
@@ -104,11 +103,11 @@ public class PollenParticle extends TextureSheetParticle {
 			if (!rain) {
 				double multXZ = (onGround ? 0.00025D : 0.0035D) * WIND_INTENSITY;
 				double multY = (onGround ? 0.00025D : 0.00175D) * WIND_INTENSITY;
-				Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
-					.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-				this.xd += wind.x() * multXZ;
-				this.yd += (wind.y() + 0.1D) * multY;
-				this.zd += wind.z() * multXZ;
+				double[] wind = WIND;
+				WindFieldCache.LIGHT_PARTICLES.sampleParticleWindInto(this.x, this.y, this.z, wind);
+				this.xd += wind[0] * multXZ;
+				this.yd += (wind[1] + 0.1D) * multY;
+				this.zd += wind[2] * multXZ;
 			}
 		} else {
 			this.remove();
@@ -23,9 +23,8 @@ import java.util.List;
 import java.util.function.Consumer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.client.impl.ClientWindManager;
-import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.options.WindParticleOptions;
+import net.frozenblock.wilderwild.wind.WindFieldCache;
 import net.minecraft.client.Camera;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
@@ -42,6 +41,7 @@ import org.joml.Vector3f;
 
 @Environment(EnvType.CLIENT)
 public class WindParticle extends TextureSheetParticle {
+	private static final double[] WIND = new double[3];
 	private static final Vector3f NORMALIZED_QUAT_VECTOR = new Vector3f(0.5F, 0.5F, 0.5F).normalize();
 	private final SpriteSet spriteProvider;
 	private int ageBeforeDissipating;
@@ -73,11 +73,11 @@ public class WindParticle extends TextureSheetParticle {
 		super.tick();
 		double multXZ = 0.007D;
 		double multY = 0.0015D * 0.695;
-		Vec3 pos = new Vec3(this.x, this.y, this.z);
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, pos, 1D, 7D, 5D).scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-		this.xd += wind.x() * multXZ;
-		this.yd += wind.y() * multY;
-		this.zd += wind.z() * multXZ;
+		double[] wind = WIND;
+		WindFieldCache.LIGHT_PARTICLES.sampleParticleWindInto(this.x, this.y, this.z, wind);
+		this.xd += wind[0] * multXZ;
+		this.yd += wind[1] * multY;
+		this.zd += wind[2] * multXZ;
 
 		this.prevYRot = this.yRot;
 		this.prevXRot = this.xRot;
@@ -24,7 +24,6 @@ import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.entity.Butterfly;
 import net.frozenblock.wilderwild.entity.CoconutProjectile;
 import net.frozenblock.wilderwild.entity.Crab;
-import net.frozenblock.wilderwild.entity.FallingLeafTicker;
 import net.frozenblock.wilderwild.entity.Firefly;
 import net.frozenblock.wilderwild.entity.FlowerCow;
 import net.frozenblock.wilderwild.entity.Jellyfish;
@@ -130,14 +129,6 @@ public final class WWEntityTypes {
 			.build(WWConstants.string("coconut"))
 	);
 
-	public static final EntityType<FallingLeafTicker> FALLING_LEAVES = register(
-		"falling_leaves",
-		EntityType.Builder.<FallingLeafTicker>of(FallingLeafTicker::new, MobCategory.MISC)
-			.sized(0F, 0F)
-			.clientTrackingRange(0)
-			.build(WWConstants.string("falling_leaves"))
-	);
-
 	private WWEntityTypes() {
 		throw new UnsupportedOperationException("WWEntityTypes contains only static declarations.");
 	}
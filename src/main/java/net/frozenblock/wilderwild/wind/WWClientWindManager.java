@@ -70,7 +70,9 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 		Minecraft minecraft = Minecraft.getInstance();
 		ClientLevel level = minecraft.level;
 		if (level != null) {
+			WindDisturbanceIndex.rebuild();
 			BlockPos pos = minecraft.gameRenderer.getMainCamera().getBlockPosition();
+			WindFieldCache.tick(pos.getX(), pos.getY(), pos.getZ());
 			this.animateTick(level, pos.getX(), pos.getY(), pos.getZ());
 		}
 	}
@@ -137,9 +139,7 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 		int j = posY + random.nextIntBetweenInclusive(-range, range);
 		int k = posZ + random.nextIntBetweenInclusive(-range, range);
 		blockPos.set(i, j, k);
-		if (ClientWindManager.getWindDisturbances().stream().noneMatch(windDisturbance -> windDisturbance.affectedArea.contains(i, j, k))) {
-			return;
-		}
+		if (!WindDisturbanceIndex.isDisturbed(i, j, k)) return;
 
 		BlockState blockState = level.getBlockState(blockPos);
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceArrayList;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.wind.api.WindDisturbance;
+import net.frozenblock.lib.wind.client.impl.ClientWindManager;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A hash grid of the client's active {@link WindDisturbance}s, keyed by the chunk sections their affected areas cover.
+ * <p>
+ * The grid is rebuilt once per client tick, so checking whether a position is disturbed
+ * only tests the few disturbances overlapping its section instead of every disturbance in the level.
+ */
+@Environment(EnvType.CLIENT)
+public final class WindDisturbanceIndex {
+	// Disturbances covering more sections than this are tested against every query instead of being added to each cell.
+	private static final int MAX_INDEXED_SECTIONS = 64;
+	private static final Long2ObjectOpenHashMap<ReferenceArrayList<WindDisturbance<?>>> CELLS = new Long2ObjectOpenHashMap<>();
+	private static final ReferenceArrayList<WindDisturbance<?>> UNINDEXED = new ReferenceArrayList<>();
+
+	private WindDisturbanceIndex() {
+		throw new UnsupportedOperationException("WindDisturbanceIndex contains only static declarations.");
+	}
+
+	public static void rebuild() {
+		CELLS.clear();
+		UNINDEXED.clear();
+		for (WindDisturbance<?> windDisturbance : ClientWindManager.getWindDisturbances()) {
+			AABB area = windDisturbance.affectedArea;
+			int minX = SectionPos.posToSectionCoord(area.minX);
+			int minY = SectionPos.posToSectionCoord(area.minY);
+			int minZ = SectionPos.posToSectionCoord(area.minZ);
+			int maxX = SectionPos.posToSectionCoord(area.maxX);
+			int maxY = SectionPos.posToSectionCoord(area.maxY);
+			int maxZ = SectionPos.posToSectionCoord(area.maxZ);
+			long sectionCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+			if (sectionCount > MAX_INDEXED_SECTIONS) {
+				UNINDEXED.add(windDisturbance);
+				continue;
+			}
+
+			for (int x = minX; x <= maxX; x++) {
+				for (int y = minY; y <= maxY; y++) {
+					for (int z = minZ; z <= maxZ; z++) {
+						CELLS.computeIfAbsent(SectionPos.asLong(x, y, z), ignored -> new ReferenceArrayList<>()).add(windDisturbance);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether any active {@link WindDisturbance} affects the given position.
+	 */
+	public static boolean isDisturbed(double x, double y, double z) {
+		if (CELLS.isEmpty() && UNINDEXED.isEmpty()) return false;
+		if (anyContains(UNINDEXED, x, y, z)) return true;
+		ReferenceArrayList<WindDisturbance<?>> cell = CELLS.get(
+			SectionPos.asLong(SectionPos.posToSectionCoord(x), SectionPos.posToSectionCoord(y), SectionPos.posToSectionCoord(z))
+		);
+		return cell != null && anyContains(cell, x, y, z);
+	}
+
+	private static boolean anyContains(@NotNull ReferenceArrayList<WindDisturbance<?>> windDisturbances, double x, double y, double z) {
+		for (WindDisturbance<?> windDisturbance : windDisturbances) {
+			if (windDisturbance.affectedArea.contains(x, y, z)) return true;
+		}
+		return false;
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2023-2025 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import java.util.Arrays;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.wind.api.WindDisturbance;
+import net.frozenblock.lib.wind.client.impl.ClientWindManager;
+import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A coarse grid of wind movement around the camera, shared by every particle pushed around by the wind.
+ * <p>
+ * Each grid node is sampled from {@link ClientWindManager#getWindMovement} at most once per tick, and only once a particle near it asks for wind.
+ * Particles then interpolate between the eight surrounding nodes without allocating anything.
+ * <p>
+ * The grid only holds undisturbed wind, as {@link WindDisturbance}s are often much smaller than a grid cell.
+ * Particles inside a disturbance, or next to a node inside one, sample their wind directly instead.
+ */
+@Environment(EnvType.CLIENT)
+public final class WindFieldCache {
+	public static final WindFieldCache GROUNDED_PARTICLES = new WindFieldCache(0.75D, 7D, 5D);
+	public static final WindFieldCache LIGHT_PARTICLES = new WindFieldCache(1D, 7D, 5D);
+	public static final WindFieldCache PARTICLES = new WindFieldCache(1.5D, 7D, 5D);
+	public static final WindFieldCache CHERRY_LEAVES = new WindFieldCache(2.5D, 7D, 5D);
+	private static final WindFieldCache[] CACHES = {GROUNDED_PARTICLES, LIGHT_PARTICLES, PARTICLES, CHERRY_LEAVES};
+
+	private static final int CELL_SIZE = 4;
+	private static final int HORIZONTAL_CELLS = 32;
+	private static final int VERTICAL_CELLS = 16;
+	private static final int HORIZONTAL_NODES = HORIZONTAL_CELLS + 1;
+	private static final int VERTICAL_NODES = VERTICAL_CELLS + 1;
+	private static final int NODE_COUNT = HORIZONTAL_NODES * HORIZONTAL_NODES * VERTICAL_NODES;
+	private static final int DISTURBED_NODE = -1;
+
+	private static int originX;
+	private static int originY;
+	private static int originZ;
+	private static int stamp;
+
+	private final double scale;
+	private final double clamp;
+	private final double windDisturbanceClamp;
+	private final float[] nodes = new float[NODE_COUNT * 3];
+	private final int[] nodeStamps = new int[NODE_COUNT];
+	private final boolean[] nodeDisturbed = new boolean[NODE_COUNT];
+
+	private WindFieldCache(double scale, double clamp, double windDisturbanceClamp) {
+		this.scale = scale;
+		this.clamp = clamp;
+		this.windDisturbanceClamp = windDisturbanceClamp;
+	}
+
+	/**
+	 * Moves the grid to be centered on the camera and marks every node as outdated.
+	 */
+	public static void tick(int cameraX, int cameraY, int cameraZ) {
+		originX = Math.floorDiv(cameraX, CELL_SIZE) * CELL_SIZE - (HORIZONTAL_CELLS / 2) * CELL_SIZE;
+		originY = Math.floorDiv(cameraY, CELL_SIZE) * CELL_SIZE - (VERTICAL_CELLS / 2) * CELL_SIZE;
+		originZ = Math.floorDiv(cameraZ, CELL_SIZE) * CELL_SIZE - (HORIZONTAL_CELLS / 2) * CELL_SIZE;
+		stamp += 1;
+		if (stamp == 0) {
+			stamp = 1;
+			for (WindFieldCache cache : CACHES) {
+				Arrays.fill(cache.nodeStamps, 0);
+			}
+		}
+	}
+
+	/**
+	 * Writes the wind movement at the given position into the first three values of {@code out}.
+	 * <p>
+	 * Positions outside the grid or near a {@link WindDisturbance} are sampled directly.
+	 */
+	public void sampleInto(double x, double y, double z, double @NotNull [] out) {
+		ClientLevel clientLevel = Minecraft.getInstance().level;
+		if (clientLevel == null) {
+			out[0] = 0D;
+			out[1] = 0D;
+			out[2] = 0D;
+			return;
+		}
+
+		double gridX = (x - originX) / CELL_SIZE;
+		double gridY = (y - originY) / CELL_SIZE;
+		double gridZ = (z - originZ) / CELL_SIZE;
+		if (gridX < 0D || gridY < 0D || gridZ < 0D || gridX >= HORIZONTAL_CELLS || gridY >= VERTICAL_CELLS || gridZ >= HORIZONTAL_CELLS
+			|| WindDisturbanceIndex.isDisturbed(x, y, z)
+		) {
+			this.sampleDirectlyInto(clientLevel, x, y, z, out);
+			return;
+		}
+
+		int cellX = (int) gridX;
+		int cellY = (int) gridY;
+		int cellZ = (int) gridZ;
+		double deltaX = gridX - cellX;
+		double deltaY = gridY - cellY;
+		double deltaZ = gridZ - cellZ;
+		int n000 = this.getNode(clientLevel, cellX, cellY, cellZ);
+		int n100 = this.getNode(clientLevel, cellX + 1, cellY, cellZ);
+		int n010 = this.getNode(clientLevel, cellX, cellY + 1, cellZ);
+		int n110 = this.getNode(clientLevel, cellX + 1, cellY + 1, cellZ);
+		int n001 = this.getNode(clientLevel, cellX, cellY, cellZ + 1);
+		int n101 = this.getNode(clientLevel, cellX + 1, cellY, cellZ + 1);
+		int n011 = this.getNode(clientLevel, cellX, cellY + 1, cellZ + 1);
+		int n111 = this.getNode(clientLevel, cellX + 1, cellY + 1, cellZ + 1);
+		if (n000 == DISTURBED_NODE || n100 == DISTURBED_NODE || n010 == DISTURBED_NODE || n110 == DISTURBED_NODE
+			|| n001 == DISTURBED_NODE || n101 == DISTURBED_NODE || n011 == DISTURBED_NODE || n111 == DISTURBED_NODE
+		) {
+			this.sampleDirectlyInto(clientLevel, x, y, z, out);
+			return;
+		}
+
+		float[] nodes = this.nodes;
+		for (int axis = 0; axis < 3; axis++) {
+			out[axis] = Mth.lerp3(
+				deltaX, deltaY, deltaZ,
+				nodes[n000 + axis], nodes[n100 + axis],
+				nodes[n010 + axis], nodes[n110 + axis],
+				nodes[n001 + axis], nodes[n101 + axis],
+				nodes[n011 + axis], nodes[n111 + axis]
+			);
+		}
+	}
+
+	/**
+	 * Writes the wind movement at the given position into the first three values of {@code out}, scaled by the particle wind intensity.
+	 */
+	public void sampleParticleWindInto(double x, double y, double z, double @NotNull [] out) {
+		this.sampleInto(x, y, z, out);
+		double intensity = WWAmbienceAndMiscConfig.getParticleWindIntensity();
+		out[0] *= intensity;
+		out[1] *= intensity;
+		out[2] *= intensity;
+	}
+
+	private void sampleDirectlyInto(@NotNull ClientLevel clientLevel, double x, double y, double z, double @NotNull [] out) {
+		Vec3 wind = ClientWindManager.getWindMovement(clientLevel, new Vec3(x, y, z), this.scale, this.clamp, this.windDisturbanceClamp);
+		out[0] = wind.x;
+		out[1] = wind.y;
+		out[2] = wind.z;
+	}
+
+	/**
+	 * Returns the index of the given node's wind in {@link #nodes}, or {@link #DISTURBED_NODE} if the node is inside a {@link WindDisturbance}.
+	 */
+	private int getNode(@NotNull ClientLevel clientLevel, int nodeX, int nodeY, int nodeZ) {
+		int node = (nodeY * HORIZONTAL_NODES + nodeZ) * HORIZONTAL_NODES + nodeX;
+		if (this.nodeStamps[node] != stamp) {
+			this.nodeStamps[node] = stamp;
+			double x = originX + nodeX * CELL_SIZE;
+			double y = originY + nodeY * CELL_SIZE;
+			double z = originZ + nodeZ * CELL_SIZE;
+			this.nodeDisturbed[node] = WindDisturbanceIndex.isDisturbed(x, y, z);
+			if (!this.nodeDisturbed[node]) {
+				Vec3 wind = ClientWindManager.getWindMovement(clientLevel, new Vec3(x, y, z), this.scale, this.clamp, this.windDisturbanceClamp);
+				int index = node * 3;
+				this.nodes[index] = (float) wind.x;
+				this.nodes[index + 1] = (float) wind.y;
+				this.nodes[index + 2] = (float) wind.z;
+			}
+		}
+		return this.nodeDisturbed[node] ? DISTURBED_NODE : node * 3;
+	}
+}